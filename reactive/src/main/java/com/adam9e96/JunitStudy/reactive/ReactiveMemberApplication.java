@@ -0,0 +1,25 @@
+package com.adam9e96.JunitStudy.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 회원 조회를 WebFlux + R2DBC 로 제공하는 리액티브 애플리케이션.
+ *
+ * <p>
+ * 루트 애플리케이션(서블릿 + JPA)과 같은 member 테이블을 읽습니다. 요청 스레드를 막지 않고
+ * 조회 결과를 {@code Flux} 로 흘려보내므로, 느린 클라이언트는 받을 수 있는 만큼만 DB 에서 읽어옵니다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew :reactive:bootRun
+ * </pre>
+ */
+@SpringBootApplication
+public class ReactiveMemberApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveMemberApplication.class, args);
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.adam9e96.JunitStudy.reactive.controller;
+
+import com.adam9e96.JunitStudy.reactive.entity.Member;
+import com.adam9e96.JunitStudy.reactive.repository.MemberReactiveRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 루트 모듈 {@code TestController} 의 회원 조회 엔드포인트를 같은 경로로 제공합니다.
+ *
+ * <p>
+ * 모든 응답은 {@link Flux} 로 만들어지고, WebFlux 가 원소마다 직렬화해서 바로 내보냅니다.
+ * 소켓에 더 쓸 수 없으면 Netty 가 요청(request)을 멈추므로, 느린 클라이언트에 대해서는
+ * DB 에서도 {@code member.stream.prefetch} 행씩만 더 읽어옵니다. 회원 수와 관계없이 메모리 사용량이 일정합니다.
+ * </p>
+ */
+@RestController
+public class ReactiveMemberController {
+
+    /**
+     * 루트 모듈 {@code TestService.MAX_PAGE_SIZE} 와 같은 값입니다.
+     */
+    static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    MemberReactiveRepository memberRepository;
+
+    /**
+     * 구독자에게서 한 번에 당겨오는 최대 행 수. 75% 를 내보내면 다음 묶음을 요청합니다.
+     */
+    @Value("${member.stream.prefetch:256}")
+    int prefetch;
+
+    /**
+     * 전체 회원을 JSON 배열로 스트리밍합니다. 배열을 메모리에 만들지 않고 원소 단위로 씁니다.
+     */
+    @GetMapping("/test")
+    public Flux<Member> getAllMembers() {
+        return memberRepository.findAllOrderById().limitRate(prefetch);
+    }
+
+    /**
+     * 키셋 페이징 조회. {@code GET /test?afterId=100&limit=50}
+     */
+    @GetMapping(value = "/test", params = "limit")
+    public Flux<Member> getMembersAfter(@RequestParam(value = "afterId", defaultValue = "0") long afterId,
+                                       @RequestParam("limit") int limit) {
+        return memberRepository.findAfter(afterId, Math.clamp(limit, 1, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 전체 회원을 한 줄에 하나씩 NDJSON 으로 스트리밍합니다.
+     */
+    @GetMapping(value = "/test/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Member> streamAllMembers() {
+        return memberRepository.findAllOrderById().limitRate(prefetch);
+    }
+
+    @GetMapping("/test/{id}")
+    public Mono<Member> getMember(@PathVariable("id") long id) {
+        return memberRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "member not found: " + id)));
+    }
+
+    @GetMapping(value = "/test", params = "name")
+    public Flux<Member> getMembersByName(@RequestParam("name") String name) {
+        return memberRepository.findAllByName(name);
+    }
+}
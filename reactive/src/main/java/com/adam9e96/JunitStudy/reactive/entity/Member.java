@@ -0,0 +1,17 @@
+package com.adam9e96.JunitStudy.reactive.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * member 테이블의 R2DBC 매핑.
+ *
+ * <p>
+ * 루트 모듈의 JPA 엔티티({@code com.adam9e96.JunitStudy.entity.Member})와 같은 테이블, 같은 컬럼을 사용합니다.
+ * 스키마는 Hibernate 가 생성하는 DDL 과 같은 {@code schema.sql} 로 만들며, 이미 있으면 그대로 둡니다.
+ * 이 모듈은 조회만 하므로 version 은 읽기만 하고 낙관적 잠금에는 사용하지 않습니다.
+ * </p>
+ */
+@Table("member")
+public record Member(@Id Long id, String name, Long version) {
+}
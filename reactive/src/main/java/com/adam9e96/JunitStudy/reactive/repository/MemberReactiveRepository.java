@@ -0,0 +1,30 @@
+package com.adam9e96.JunitStudy.reactive.repository;
+
+import com.adam9e96.JunitStudy.reactive.entity.Member;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+public interface MemberReactiveRepository extends ReactiveCrudRepository<Member, Long> {
+
+    /**
+     * 전체 회원을 id 순으로 조회합니다.
+     * 결과를 모으지 않고 구독자가 요청(request)한 만큼 행을 내보냅니다.
+     * SELECT * FROM member ORDER BY id;
+     */
+    @Query("SELECT id, name, version FROM member ORDER BY id")
+    Flux<Member> findAllOrderById();
+
+    /**
+     * 키셋(커서) 페이징 조회. 루트 모듈의 {@code MemberRepository.findByIdGreaterThanOrderByIdAsc} 와 같은 쿼리입니다.
+     * SELECT * FROM member WHERE id > ? ORDER BY id ASC LIMIT ?;
+     */
+    @Query("SELECT id, name, version FROM member WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Member> findAfter(long afterId, int limit);
+
+    /**
+     * 같은 이름의 회원을 id 순으로 조회합니다. idx_member_name 인덱스를 사용합니다.
+     */
+    @Query("SELECT id, name, version FROM member WHERE name = :name ORDER BY id")
+    Flux<Member> findAllByName(String name);
+}
@@ -0,0 +1,12 @@
+-- 루트 모듈의 Member 엔티티에서 Hibernate 가 생성하는 DDL 과 같은 스키마입니다.
+-- 이미 있으면 그대로 두므로, 서블릿 애플리케이션이 만든 DB 를 함께 사용할 수 있습니다.
+CREATE SEQUENCE IF NOT EXISTS member_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS member (
+    id      BIGINT       NOT NULL,
+    name    VARCHAR(255) NOT NULL,
+    version BIGINT       DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_member_name ON member (name);
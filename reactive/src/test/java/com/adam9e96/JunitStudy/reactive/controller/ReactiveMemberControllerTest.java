@@ -0,0 +1,107 @@
+package com.adam9e96.JunitStudy.reactive.controller;
+
+import com.adam9e96.JunitStudy.reactive.entity.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리액티브 회원 조회 엔드포인트가 루트 모듈과 같은 결과를 돌려주고,
+ * 구독자가 요청한 만큼만 회원을 내보내는지(backpressure) 검증합니다.
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveMemberControllerTest {
+
+    private static final int MEMBERS = 20;
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @Autowired
+    ReactiveMemberController controller;
+
+    @BeforeEach
+    void seed() {
+        databaseClient.sql("DELETE FROM member").then().block();
+        databaseClient.sql("INSERT INTO member (id, name, version) SELECT X, 'member' || X, 0 FROM SYSTEM_RANGE(1, " + MEMBERS + ")")
+                .then().block();
+    }
+
+    @DisplayName("getAllMembers: 전체 회원을 id 순의 JSON 배열로 반환한다.")
+    @Test
+    void getAllMembers() {
+        webTestClient.get().uri("/test")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(MEMBERS)
+                .jsonPath("$[0].id").isEqualTo(1)
+                .jsonPath("$[0].name").isEqualTo("member1")
+                .jsonPath("$[0].version").isEqualTo(0);
+    }
+
+    @DisplayName("getMembersAfter: afterId 다음 회원을 limit 명까지 반환한다.")
+    @Test
+    void getMembersAfter() {
+        webTestClient.get().uri("/test?afterId=5&limit=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(Member.class)
+                .value(members -> assertThat(members).extracting(Member::id).containsExactly(6L, 7L, 8L));
+    }
+
+    @DisplayName("getMember: 없는 회원은 404 를 반환한다.")
+    @Test
+    void getMemberNotFound() {
+        webTestClient.get().uri("/test/1").exchange().expectStatus().isOk();
+        webTestClient.get().uri("/test/" + (MEMBERS + 1)).exchange().expectStatus().isNotFound();
+    }
+
+    @DisplayName("streamAllMembers: 전체 회원을 NDJSON 으로 스트리밍한다.")
+    @Test
+    void streamAllMembers() {
+        Flux<Member> body = webTestClient.get().uri("/test/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Member.class)
+                .getResponseBody();
+
+        StepVerifier.create(body)
+                .expectNextMatches(member -> member.id() == 1L && member.name().equals("member1"))
+                .expectNextCount(MEMBERS - 1)
+                .verifyComplete();
+    }
+
+    @DisplayName("streamAllMembers: 구독자가 요청한 수보다 많은 회원을 내보내지 않는다.")
+    @Test
+    void streamAllMembersRespectsDemand() {
+        StepVerifier.create(controller.streamAllMembers(), 0)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(200))
+                .thenRequest(3)
+                .expectNextCount(3)
+                .expectNoEvent(Duration.ofMillis(200))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(MEMBERS - 3)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,37 @@
+package com.adam9e96.JunitStudy.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * POST /quiz 본문({@code {"value":1}})을 {@link Code} 로 역직렬화하는 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodeJsonBenchmark {
+
+    private final byte[] body = "{\"value\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() {
+        // 스프링 MVC 의 메시지 컨버터와 같은 설정의 ObjectMapper
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        reader = objectMapper.readerFor(Code.class);
+    }
+
+    @Benchmark
+    public Code readCode() throws Exception {
+        return reader.readValue(body);
+    }
+}
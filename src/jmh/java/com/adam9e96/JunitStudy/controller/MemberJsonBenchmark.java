@@ -0,0 +1,52 @@
+package com.adam9e96.JunitStudy.controller;
+
+import com.adam9e96.JunitStudy.dto.MemberSummary;
+import com.adam9e96.JunitStudy.entity.Member;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 회원 목록을 JSON 으로 직렬화하는 비용을 목록 크기별로 측정합니다.
+ * {@code List<Member>} 엔티티와 {@link TestController} 가 돌려주는 {@code List<MemberSummary>} 를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberJsonBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    int size;
+
+    private ObjectMapper objectMapper;
+    private List<Member> members;
+    private List<MemberSummary> summaries;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        members = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new Member(id, "member" + id))
+                .toList();
+        summaries = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new MemberSummary(id, "member" + id))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] writeMembers() throws Exception {
+        return objectMapper.writeValueAsBytes(members);
+    }
+
+    @Benchmark
+    public byte[] writeSummaries() throws Exception {
+        return objectMapper.writeValueAsBytes(summaries);
+    }
+}
@@ -0,0 +1,71 @@
+package com.adam9e96.JunitStudy.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /quiz 처리 중 요청마다 할당되는 메모리를 이전 방식과 비교합니다.
+ *
+ * <p>
+ * {@code ./gradlew jmh -Pjmh.include=QuizAllocation -Pjmh.prof=gc} 로 실행하고
+ * {@code gc.alloc.rate.norm}(B/op) 값을 비교합니다.
+ * </p>
+ * <ul>
+ *     <li>{@code newResponseEntity} / {@code sharedResponseEntity}: 응답 생성 (이전 / 현재)</li>
+ *     <li>{@code objectMapperCode} / {@code fastPathCode}: 본문 파싱 (이전 / 현재)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizAllocationBenchmark {
+
+    private final byte[] body = "{\"value\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private QuizController controller;
+    private ObjectMapper objectMapper;
+
+    @Param({"1", "2", "3"})
+    int code;
+
+    @Setup
+    public void setUp() {
+        controller = new QuizController();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /**
+     * 이전 QuizController.quiz() 와 같은 방식
+     */
+    @Benchmark
+    public ResponseEntity<String> newResponseEntity() {
+        return switch (code) {
+            case 1 -> ResponseEntity.created(null).body("Created!");
+            case 2 -> ResponseEntity.badRequest().body("Bad Request!");
+            default -> ResponseEntity.ok().body("OK!");
+        };
+    }
+
+    @Benchmark
+    public ResponseEntity<String> sharedResponseEntity() {
+        return controller.quiz(code);
+    }
+
+    @Benchmark
+    public Code objectMapperCode() throws Exception {
+        return objectMapper.readValue(body, Code.class);
+    }
+
+    @Benchmark
+    public Code fastPathCode() {
+        return CodeMessageConverter.parse(body);
+    }
+}
@@ -0,0 +1,54 @@
+package com.adam9e96.JunitStudy.controller;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * {@link QuizController} 의 요청 매핑부터 응답 작성까지(DispatcherServlet 경로) 걸리는 시간을 측정합니다.
+ * 네트워크 없이 MockMvc standalone 설정으로 호출합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizControllerBenchmark {
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        // QuizWebConfig 와 같은 순서로 컨버터를 등록합니다.
+        MappingJackson2HttpMessageConverter jackson = new MappingJackson2HttpMessageConverter(
+                Jackson2ObjectMapperBuilder.json().build());
+        mockMvc = MockMvcBuilders.standaloneSetup(new QuizController())
+                .setMessageConverters(new CodeMessageConverter(jackson.getObjectMapper()),
+                        new StringHttpMessageConverter(), jackson)
+                .build();
+    }
+
+    @Benchmark
+    public int quiz() throws Exception {
+        return mockMvc.perform(get("/quiz").param("code", "1"))
+                .andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int quiz2() throws Exception {
+        return mockMvc.perform(post("/quiz")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"value\":1}"))
+                .andReturn().getResponse().getStatus();
+    }
+}
@@ -0,0 +1,87 @@
+package com.adam9e96.JunitStudy.index;
+
+import com.adam9e96.JunitStudy.JunitStudyApplication;
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 id / name 조회를 {@link MemberRepository} 와 {@link MemberSnapshotIndex} 로 각각 실행해 비교합니다.
+ *
+ * <p>
+ * {@code MemberRepositoryBenchmark} 와 같은 방식으로 tableSize 만큼 행을 채운 뒤 색인을 다시 읽습니다.
+ * 여러 스레드에서 동시에 읽을 때의 차이도 보려면 {@code ./gradlew jmh -Pjmh.include=MemberIndex} 에 {@code -t} 옵션을 더합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberIndexBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private MemberSnapshotIndex memberIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JunitStudyApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--member.index.enabled=true",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate.SQL=warn",
+                        "--logging.level.org.hibernate.type.descriptor.sql=warn");
+        memberRepository = context.getBean(MemberRepository.class);
+        memberIndex = context.getBean(MemberSnapshotIndex.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO member (id, name) SELECT X, 'member' || X FROM SYSTEM_RANGE(1, ?)", tableSize);
+        // 애플리케이션을 거치지 않고 넣은 행이므로 색인을 다시 읽습니다.
+        memberIndex.reload();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Member> repositoryFindById() {
+        return memberRepository.findById(ThreadLocalRandom.current().nextLong(1, tableSize + 1));
+    }
+
+    @Benchmark
+    public Optional<Member> indexFindById() {
+        return memberIndex.findById(ThreadLocalRandom.current().nextLong(1, tableSize + 1));
+    }
+
+    @Benchmark
+    public String indexNameById() {
+        return memberIndex.snapshot().name(ThreadLocalRandom.current().nextLong(1, tableSize + 1));
+    }
+
+    @Benchmark
+    public Optional<Member> repositoryFindByName() {
+        return memberRepository.findFirstByNameOrderByIdAsc("member" + ThreadLocalRandom.current().nextInt(1, tableSize + 1));
+    }
+
+    @Benchmark
+    public Optional<Member> indexFindByName() {
+        return memberIndex.findByName("member" + ThreadLocalRandom.current().nextInt(1, tableSize + 1));
+    }
+}
@@ -0,0 +1,72 @@
+package com.adam9e96.JunitStudy.repository;
+
+import com.adam9e96.JunitStudy.JunitStudyApplication;
+import com.adam9e96.JunitStudy.entity.Member;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MemberRepository} 의 save / findById / findByName 비용을 테이블 크기별로 측정합니다.
+ *
+ * <p>
+ * 웹 서버 없이 애플리케이션 컨텍스트를 띄우고 H2 에 tableSize 만큼 행을 채운 뒤 측정합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberRepositoryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JunitStudyApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate.SQL=warn",
+                        "--logging.level.org.hibernate.type.descriptor.sql=warn");
+        memberRepository = context.getBean(MemberRepository.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO member (id, name) SELECT X, 'member' || X FROM SYSTEM_RANGE(1, ?)", tableSize);
+        // save() 가 시퀀스로 만든 id 가 미리 넣은 행과 겹치지 않도록 시퀀스를 뒤로 옮깁니다.
+        jdbcTemplate.execute("ALTER SEQUENCE member_seq RESTART WITH " + (tableSize + 1_000));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Member save() {
+        return memberRepository.save(Member.builder().name("bench").build());
+    }
+
+    @Benchmark
+    public Optional<Member> findById() {
+        return memberRepository.findById(ThreadLocalRandom.current().nextLong(1, tableSize + 1));
+    }
+
+    @Benchmark
+    public Optional<Member> findByName() {
+        return memberRepository.findFirstByNameOrderByIdAsc("member" + ThreadLocalRandom.current().nextInt(1, tableSize + 1));
+    }
+}
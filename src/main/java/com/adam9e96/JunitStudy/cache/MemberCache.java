@@ -0,0 +1,254 @@
+package com.adam9e96.JunitStudy.cache;
+
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.index.MemberSnapshotIndex;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link MemberRepository} 앞에 두는 읽기 전용(read-through) 캐시.
+ *
+ * <p>
+ * id → 회원 스냅샷, name → id 두 개의 캐시를 가지며 둘 다 최대 크기와 TTL 로 제거됩니다.
+ * name 으로 찾을 때는 name → id → 스냅샷 순서로 찾고, 스냅샷의 이름이 요청한 이름과 다르면 미스로 처리하므로
+ * id 항목만 무효화하면 이전 이름으로 조회되는 일이 없습니다.
+ * </p>
+ *
+ * <p>
+ * 캐시에는 엔티티가 아닌 복사본을 저장하고, 돌려줄 때도 복사본을 돌려줍니다.
+ * {@code Member.changeName} 처럼 리포지토리를 거치지 않은 변경은 {@link MemberCacheListener} 가 무효화합니다.
+ * </p>
+ *
+ * <p>
+ * 통계는 {@link #stats()} 와 함께 member.cache.* 메트릭으로도 노출됩니다.
+ * </p>
+ */
+@Component
+public class MemberCache implements MeterBinder {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    /**
+     * 메모리 색인(member.index.enabled=true 일 때만 있음). 준비된 색인에 있는 회원은 캐시와 리포지토리를 거치지 않습니다.
+     * 단, 트랜잭션 안에서는 사용하지 않습니다. 색인은 커밋된 값만 담으므로 같은 트랜잭션에서 바꾼 값을 볼 수 없습니다.
+     */
+    @Autowired
+    ObjectProvider<MemberSnapshotIndex> memberIndex;
+
+    private final Cache<Long, Member> byId;
+    private final Cache<String, Long> byName;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MemberCache(@Value("${member.cache.maximum-size:10000}") long maximumSize,
+                       @Value("${member.cache.ttl:10m}") Duration ttl) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.byName = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Member> findById(Long id) {
+        MemberSnapshotIndex index = committedIndex();
+        if (index != null) {
+            Optional<Member> indexed = index.findById(id);
+            if (indexed.isPresent()) {
+                return indexed;
+            }
+        }
+        Member cached = byId.getIfPresent(id);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(copyOf(cached));
+        }
+        misses.increment();
+        return memberRepository.findById(id).map(this::put);
+    }
+
+    public Optional<Member> findByName(String name) {
+        MemberSnapshotIndex index = committedIndex();
+        if (index != null) {
+            Optional<Member> indexed = index.findByName(name);
+            if (indexed.isPresent()) {
+                return indexed;
+            }
+        }
+        Long id = byName.getIfPresent(name);
+        if (id != null) {
+            Member cached = byId.getIfPresent(id);
+            if (cached != null && cached.getName().equals(name)) {
+                hits.increment();
+                return Optional.of(copyOf(cached));
+            }
+            byName.invalidate(name);
+        }
+        misses.increment();
+        return memberRepository.findFirstByNameOrderByIdAsc(name).map(this::put);
+    }
+
+    /**
+     * 조회에 쓸 수 있는 색인. 색인이 없거나 준비되지 않았거나, 트랜잭션 안이면 null 입니다.
+     * 트랜잭션 안에서는 리포지토리(영속성 컨텍스트)를 거쳐야 아직 커밋하지 않은 자기 변경을 읽을 수 있습니다.
+     */
+    private MemberSnapshotIndex committedIndex() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        MemberSnapshotIndex index = memberIndex.getIfAvailable();
+        return index != null && index.isReady() ? index : null;
+    }
+
+    public Member save(Member member) {
+        if (member.getId() != null) {
+            invalidate(member.getId());
+        }
+        Member saved = memberRepository.save(member);
+        invalidate(saved.getId());
+        return saved;
+    }
+
+    public void delete(Member member) {
+        invalidate(member.getId());
+        memberRepository.delete(member);
+    }
+
+    public void deleteById(Long id) {
+        invalidate(id);
+        memberRepository.deleteById(id);
+    }
+
+    /**
+     * id 항목과, 그 항목이 가리키던 name 항목을 함께 제거합니다.
+     *
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋/롤백 후에 한 번 더 제거합니다.
+     * 커밋 전에 다른 스레드가 이전 값을 다시 읽어 캐시에 넣는 경우를 막기 위함입니다.
+     * </p>
+     */
+    public void invalidate(Long id) {
+        if (id == null) {
+            return;
+        }
+        evict(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * 여러 id 를 한 번에 무효화합니다. 트랜잭션 동기화도 하나만 등록합니다.
+     */
+    public void invalidate(Collection<Long> ids) {
+        List<Long> copy = List.copyOf(ids);
+        copy.forEach(this::evict);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    copy.forEach(MemberCache.this::evict);
+                }
+            });
+        }
+    }
+
+    /**
+     * 전체 항목을 제거합니다. 어떤 id 가 바뀌었는지 모르는 일괄 변경 후에 사용합니다.
+     */
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    public MemberCacheStats stats() {
+        return new MemberCacheStats(
+                hits.sum(),
+                misses.sum(),
+                byId.stats().evictionCount() + byName.stats().evictionCount(),
+                byId.estimatedSize());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("member.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("member.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("member.cache.evictions", this, cache -> cache.stats().evictionCount())
+                .register(registry);
+        Gauge.builder("member.cache.size", byId, Cache::estimatedSize)
+                .register(registry);
+    }
+
+    private void clear() {
+        byId.invalidateAll();
+        byName.invalidateAll();
+    }
+
+    private void evict(Long id) {
+        Member removed = byId.asMap().remove(id);
+        if (removed != null) {
+            byName.asMap().remove(removed.getName(), id);
+        }
+    }
+
+    private Member put(Member member) {
+        Member snapshot = copyOf(member);
+        byId.put(snapshot.getId(), snapshot);
+        byName.put(snapshot.getName(), snapshot.getId());
+        return member;
+    }
+
+    private static Member copyOf(Member member) {
+        return new Member(member.getId(), member.getName(), member.getVersion());
+    }
+
+    /**
+     * 캐시 통계.
+     *
+     * @param hitCount      캐시에서 바로 돌려준 횟수
+     * @param missCount     리포지토리까지 조회한 횟수
+     * @param evictionCount 크기/TTL 때문에 제거된 항목 수
+     * @param size          현재 id 캐시에 들어있는 대략적인 항목 수
+     */
+    public record MemberCacheStats(long hitCount, long missCount, long evictionCount, long size) {
+    }
+}
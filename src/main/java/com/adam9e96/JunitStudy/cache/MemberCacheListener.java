@@ -0,0 +1,58 @@
+package com.adam9e96.JunitStudy.cache;
+
+import com.adam9e96.JunitStudy.entity.Member;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * {@link Member} 엔티티가 수정/삭제되면 {@link MemberCache} 의 항목을 무효화하고,
+ * 저장/수정/삭제되면 {@link MemberChangeTracker} 의 변경 번호를 올리는 JPA 엔티티 리스너.
+ *
+ * <p>
+ * 영속 상태의 엔티티에서 {@code changeName()} 을 호출하고 dirty checking 으로 반영되는 경우처럼
+ * {@link MemberCache} 를 거치지 않은 변경도 flush 시점에 잡아냅니다.
+ * 스프링 부트는 Hibernate 가 엔티티 리스너를 스프링 빈으로 생성하게 해주므로 의존성 주입을 받을 수 있습니다.
+ * EntityManagerFactory 생성 중에 리스너가 만들어지므로 캐시는 {@link ObjectProvider} 로 늦게 가져옵니다.
+ * </p>
+ */
+public class MemberCacheListener {
+
+    @Autowired
+    ObjectProvider<MemberCache> memberCache;
+
+    @Autowired
+    ObjectProvider<MemberChangeTracker> changeTracker;
+
+    @PostPersist
+    public void persisted(Member member) {
+        markChanged();
+    }
+
+    /**
+     * JPA 는 한 클래스에서 이벤트마다 콜백 메서드를 하나만 허용하므로 무효화와 변경 번호를 함께 처리합니다.
+     */
+    @PostUpdate
+    @PostRemove
+    public void invalidate(Member member) {
+        if (memberCache != null) {
+            MemberCache cache = memberCache.getIfAvailable();
+            if (cache != null) {
+                cache.invalidate(member.getId());
+            }
+        }
+        markChanged();
+    }
+
+    private void markChanged() {
+        if (changeTracker == null) {
+            return;
+        }
+        MemberChangeTracker tracker = changeTracker.getIfAvailable();
+        if (tracker != null) {
+            tracker.markChanged();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.adam9e96.JunitStudy.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * member 테이블 전체의 변경 번호.
+ *
+ * <p>
+ * 회원이 저장/수정/삭제될 때마다 1씩 올라가므로, 이 값이 같으면 회원 목록도 같다고 볼 수 있습니다.
+ * {@code GET /test} 는 이 값으로 ETag 를 만들어서 목록을 조회하거나 직렬화하지 않고도 304 를 돌려줍니다.
+ * </p>
+ * <p>
+ * 트랜잭션 안의 변경은 커밋(또는 롤백)이 끝난 뒤에 번호를 올립니다. 커밋 전에 올리면 그 사이의 조회가
+ * 새 번호와 이전 데이터를 함께 내려보내서, 클라이언트가 커밋 후에도 304 로 이전 데이터를 계속 쓰게 됩니다.
+ * 트랜잭션 하나에서 여러 건을 바꿔도 동기화는 한 번만 등록합니다.
+ * </p>
+ * <p>
+ * 번호는 프로세스 메모리에만 있으므로 ETag 에 시작 시각을 함께 넣어서 재시작 전 ETag 와 겹치지 않게 합니다.
+ * 애플리케이션을 거치지 않은 변경(직접 실행한 SQL, 다른 인스턴스)은 반영되지 않습니다.
+ * </p>
+ */
+@Component
+public class MemberChangeTracker {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 회원 데이터가 바뀌었음을 기록합니다.
+     */
+    public void markChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(MemberChangeTracker.this);
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 현재 변경 번호를 나타내는 ETag 값 (따옴표 제외)
+     */
+    public String etag() {
+        return "members-" + epoch + "-" + version.get();
+    }
+}
@@ -0,0 +1,67 @@
+package com.adam9e96.JunitStudy.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 저장소를 프로세스 내부 Caffeine JCache 로 만드는 RegionFactory.
+ *
+ * <p>
+ * JCache 의 기본 CacheManager 는 JVM 전체에서 공유되므로, 테스트처럼 한 JVM 에 SessionFactory 가 여러 개 뜨면
+ * 서로 다른 DB 의 엔티티가 같은 캐시에 섞입니다. 이를 막기 위해 SessionFactory 마다 새 CacheManager 를 만듭니다.
+ * </p>
+ *
+ * <p>
+ * 영역(region)은 처음 사용할 때 아래 설정으로 만듭니다.
+ * </p>
+ * <ul>
+ *     <li>{@code hibernate.member_cache.maximum_size}: 영역별 최대 항목 수 (기본 10000)</li>
+ *     <li>{@code hibernate.member_cache.expire_after_write_seconds}: 저장 후 만료 시간 (기본 600초)</li>
+ * </ul>
+ * <p>
+ * 쿼리 캐시의 무효화 기준인 timestamps 영역은 제거되면 오래된 쿼리 결과가 보일 수 있으므로 크기/만료 제한을 두지 않습니다.
+ * </p>
+ */
+public class MemberCacheRegionFactory extends JCacheRegionFactory {
+
+    public static final String MAXIMUM_SIZE = "hibernate.member_cache.maximum_size";
+    public static final String EXPIRE_AFTER_WRITE_SECONDS = "hibernate.member_cache.expire_after_write_seconds";
+
+    private long maximumSize = 10_000;
+    private long expireAfterWriteSeconds = 600;
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map properties) {
+        maximumSize = longValue(properties, MAXIMUM_SIZE, maximumSize);
+        expireAfterWriteSeconds = longValue(properties, EXPIRE_AFTER_WRITE_SECONDS, expireAfterWriteSeconds);
+        // 공유 레지스트리(Caching)를 거치지 않고 새 provider 에서 CacheManager 를 만듭니다.
+        return new CaffeineCachingProvider().getCacheManager();
+    }
+
+    @Override
+    protected Cache<Object, Object> createCache(String regionName) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(true);
+        if (!regionName.endsWith(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(expireAfterWriteSeconds)));
+        }
+        return getCacheManager().createCache(regionName, configuration);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static long longValue(Map properties, String key, long defaultValue) {
+        Object value = properties.get(key);
+        return value == null ? defaultValue : Long.parseLong(value.toString().trim());
+    }
+}
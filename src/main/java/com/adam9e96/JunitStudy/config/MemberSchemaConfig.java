@@ -0,0 +1,25 @@
+package com.adam9e96.JunitStudy.config;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Member 테이블 스키마 설정.
+ *
+ * <p>
+ * JPA {@code @Index} 는 유니크 여부를 설정값으로 바꿀 수 없으므로,
+ * member.name.unique=true 인 경우에만 시작 시 name 컬럼에 유니크 인덱스를 추가합니다.
+ * </p>
+ */
+@Configuration
+public class MemberSchemaConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "member.name.unique", havingValue = "true")
+    public ApplicationRunner uniqueMemberNameIndex(JdbcTemplate jdbcTemplate) {
+        return args -> jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uk_member_name ON member (name)");
+    }
+}
@@ -0,0 +1,36 @@
+package com.adam9e96.JunitStudy.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로그 이벤트를 rate 비율만큼만 통과시키는 logback 필터.
+ *
+ * <p>
+ * logback-spring.xml 의 prod 프로필에서 느린 쿼리 로그(org.hibernate.SQL_SLOW)에 사용합니다.
+ * rate 가 1.0 이면 모두 통과, 0.0 이면 모두 버립니다.
+ * </p>
+ */
+public class SamplingFilter extends Filter<ILoggingEvent> {
+
+    private double rate = 1.0;
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (rate >= 1.0) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public void setRate(double rate) {
+        this.rate = Math.clamp(rate, 0.0, 1.0);
+    }
+}
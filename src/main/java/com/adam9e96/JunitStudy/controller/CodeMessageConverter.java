@@ -0,0 +1,268 @@
+package com.adam9e96.JunitStudy.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * POST /quiz 본문을 {@link Code} 로 읽는 전용 메시지 컨버터.
+ *
+ * <p>
+ * 본문은 대부분 {@code {"value":1}} 처럼 단순하므로, 바이트 배열을 한 번 훑어서 value 만 꺼내고
+ * ObjectMapper 의 범용 바인딩(파서/역직렬화기 탐색/리플렉션)을 건너뜁니다.
+ * 이스케이프된 문자열, 중첩 객체, 실수, JSON 문법에 맞지 않는 값처럼 단순 파서가 처리하지 않는 본문은 ObjectMapper 로 넘겨서
+ * 결과와 오류 응답(400)이 기존과 같게 유지됩니다.
+ * </p>
+ */
+class CodeMessageConverter extends AbstractHttpMessageConverter<Code> {
+
+    private static final byte[] VALUE_KEY = {'v', 'a', 'l', 'u', 'e'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private final ObjectMapper objectMapper;
+
+    CodeMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Code.class == clazz;
+    }
+
+    @Override
+    protected Code readInternal(Class<? extends Code> clazz, HttpInputMessage inputMessage) throws IOException {
+        byte[] body = inputMessage.getBody().readAllBytes();
+        Code code = parse(body);
+        if (code != null) {
+            return code;
+        }
+        try {
+            return objectMapper.readValue(body, Code.class);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    /**
+     * 쓰기는 빠른 경로가 없으므로 읽기 실패 시와 같은 ObjectMapper 로 씁니다. 결과는 Jackson 컨버터와 같습니다.
+     */
+    @Override
+    protected void writeInternal(Code code, HttpOutputMessage outputMessage) throws IOException {
+        objectMapper.writeValue(outputMessage.getBody(), code);
+    }
+
+    /**
+     * 평평한 JSON 객체에서 "value" 정수를 읽습니다.
+     * value 가 없으면 Jackson 과 같이 0 으로 봅니다.
+     *
+     * @return 단순 파서로 처리할 수 없는 본문이면 {@code null}
+     */
+    static Code parse(byte[] body) {
+        int i = skipWhitespace(body, 0);
+        if (i >= body.length || body[i] != '{') {
+            return null;
+        }
+        i = skipWhitespace(body, i + 1);
+        int value = 0;
+        if (i < body.length && body[i] == '}') {
+            return trailingWhitespaceOnly(body, i + 1) ? new Code(value) : null;
+        }
+        while (i < body.length) {
+            // 키
+            if (body[i] != '"') {
+                return null;
+            }
+            int keyStart = i + 1;
+            int keyEnd = skipStringContent(body, keyStart);
+            if (keyEnd < 0) {
+                return null;
+            }
+            i = skipWhitespace(body, keyEnd + 1);
+            if (i >= body.length || body[i] != ':') {
+                return null;
+            }
+            i = skipWhitespace(body, i + 1);
+
+            // 값
+            if (isValueKey(body, keyStart, keyEnd)) {
+                boolean negative = i < body.length && body[i] == '-';
+                if (negative) {
+                    i++;
+                }
+                int digitsStart = i;
+                if (i + 1 < body.length && body[i] == '0' && isDigit(body[i + 1])) {
+                    // 01 처럼 0 으로 시작하는 수는 JSON 이 아니므로 ObjectMapper 가 400 으로 응답하게 넘깁니다.
+                    return null;
+                }
+                long number = 0;
+                while (i < body.length && isDigit(body[i])) {
+                    number = number * 10 + (body[i] - '0');
+                    if (number > (long) Integer.MAX_VALUE + 1) {
+                        return null;
+                    }
+                    i++;
+                }
+                if (i == digitsStart) {
+                    return null;
+                }
+                number = negative ? -number : number;
+                if (number > Integer.MAX_VALUE) {
+                    return null;
+                }
+                value = (int) number;
+            } else {
+                i = skipSimpleValue(body, i);
+                if (i < 0) {
+                    return null;
+                }
+            }
+
+            // 구분자
+            i = skipWhitespace(body, i);
+            if (i >= body.length) {
+                return null;
+            }
+            if (body[i] == '}') {
+                return trailingWhitespaceOnly(body, i + 1) ? new Code(value) : null;
+            }
+            if (body[i] != ',') {
+                return null;
+            }
+            i = skipWhitespace(body, i + 1);
+        }
+        return null;
+    }
+
+    private static boolean isValueKey(byte[] body, int start, int end) {
+        if (end - start != VALUE_KEY.length) {
+            return false;
+        }
+        for (int k = 0; k < VALUE_KEY.length; k++) {
+            if (body[start + k] != VALUE_KEY[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * value 가 아닌 키의 값(이스케이프 없는 ASCII 문자열, RFC 8259 수, true/false/null)을 건너뜁니다.
+     * 그 밖의 값은 Jackson 이 받아들이는지 여기서 판단하지 않고 ObjectMapper 로 넘깁니다.
+     *
+     * @return 값 다음 위치, 처리할 수 없는 값이면 -1
+     */
+    private static int skipSimpleValue(byte[] body, int i) {
+        if (i >= body.length) {
+            return -1;
+        }
+        return switch (body[i]) {
+            case '"' -> {
+                int end = skipStringContent(body, i + 1);
+                yield end < 0 ? -1 : end + 1;
+            }
+            case 't' -> skipLiteral(body, i, TRUE);
+            case 'f' -> skipLiteral(body, i, FALSE);
+            case 'n' -> skipLiteral(body, i, NULL);
+            default -> skipNumber(body, i);
+        };
+    }
+
+    /**
+     * 여는 따옴표 다음부터 닫는 따옴표 앞까지 건너뜁니다.
+     * 이스케이프, 제어 문자(Jackson 이 거부), ASCII 가 아닌 바이트(UTF-8 검증이 필요)가 있으면 처리하지 않습니다.
+     *
+     * @return 닫는 따옴표 위치, 처리할 수 없으면 -1
+     */
+    private static int skipStringContent(byte[] body, int i) {
+        while (i < body.length && body[i] != '"') {
+            if (body[i] == '\\' || body[i] < 0x20) {
+                // byte 는 부호가 있으므로 0x80 이상(ASCII 가 아닌 바이트)도 여기서 걸립니다.
+                return -1;
+            }
+            i++;
+        }
+        return i < body.length ? i : -1;
+    }
+
+    private static int skipLiteral(byte[] body, int i, byte[] literal) {
+        if (body.length - i < literal.length) {
+            return -1;
+        }
+        for (int k = 0; k < literal.length; k++) {
+            if (body[i + k] != literal[k]) {
+                return -1;
+            }
+        }
+        return i + literal.length;
+    }
+
+    /**
+     * {@code -? (0 | [1-9][0-9]*) (. [0-9]+)? ([eE] [+-]? [0-9]+)?}
+     *
+     * @return 수 다음 위치, RFC 8259 수가 아니면 -1
+     */
+    private static int skipNumber(byte[] body, int i) {
+        if (i < body.length && body[i] == '-') {
+            i++;
+        }
+        if (i >= body.length || !isDigit(body[i])) {
+            return -1;
+        }
+        if (body[i] == '0') {
+            i++;
+        } else {
+            i = skipDigits(body, i);
+        }
+        if (i < body.length && body[i] == '.') {
+            int fractionStart = i + 1;
+            i = skipDigits(body, fractionStart);
+            if (i == fractionStart) {
+                return -1;
+            }
+        }
+        if (i < body.length && (body[i] == 'e' || body[i] == 'E')) {
+            i++;
+            if (i < body.length && (body[i] == '+' || body[i] == '-')) {
+                i++;
+            }
+            int exponentStart = i;
+            i = skipDigits(body, exponentStart);
+            if (i == exponentStart) {
+                return -1;
+            }
+        }
+        return i;
+    }
+
+    private static int skipDigits(byte[] body, int i) {
+        while (i < body.length && isDigit(body[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static int skipWhitespace(byte[] body, int i) {
+        while (i < body.length && (body[i] == ' ' || body[i] == '\t' || body[i] == '\n' || body[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean trailingWhitespaceOnly(byte[] body, int i) {
+        return skipWhitespace(body, i) == body.length;
+    }
+}
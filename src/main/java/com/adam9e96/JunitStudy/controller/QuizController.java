@@ -32,12 +32,25 @@ import org.springframework.web.bind.annotation.*;
  * 응답: 403 Forbidden, 본문 "Forbidden!"
  * }</pre>
  *
+ * <p>
+ * 상태별 응답은 모두 미리 만들어 둔 불변 {@code ResponseEntity} 를 재사용하므로 요청마다 응답 객체와 헤더를 새로 만들지 않습니다.
+ * POST 본문은 {@link CodeMessageConverter} 가 ObjectMapper 를 거치지 않고 읽습니다.
+ * </p>
+ *
  * @version 1.0
  * @since 2024-04-27
  */
 @RestController
 public class QuizController {
 
+    /*
+     * ResponseEntity 는 생성 시 헤더를 읽기 전용으로 감싸므로 여러 요청에서 공유해도 안전합니다.
+     */
+    private static final ResponseEntity<String> CREATED = ResponseEntity.created(null).body("Created!");
+    private static final ResponseEntity<String> BAD_REQUEST = ResponseEntity.badRequest().body("Bad Request!");
+    private static final ResponseEntity<String> OK = ResponseEntity.ok().body("OK!");
+    private static final ResponseEntity<String> FORBIDDEN = ResponseEntity.status(403).body("Forbidden!");
+
     /**
      * "/quiz" 엔드포인트에 대한 HTTP GET 요청을 처리합니다.
      *
@@ -67,9 +80,9 @@ public class QuizController {
     @GetMapping("/quiz")
     public ResponseEntity<String> quiz(@RequestParam("code") int code) {
         return switch (code) {
-            case 1 -> ResponseEntity.created(null).body("Created!");
-            case 2 -> ResponseEntity.badRequest().body("Bad Request!");
-            default -> ResponseEntity.ok().body("OK!");
+            case 1 -> CREATED;
+            case 2 -> BAD_REQUEST;
+            default -> OK;
         };
     }
 
@@ -101,9 +114,9 @@ public class QuizController {
     public ResponseEntity<String> quiz2(@RequestBody Code code) {
         switch (code.value()) {
             case 1:
-                return ResponseEntity.status(403).body("Forbidden!");
+                return FORBIDDEN;
             default:
-                return ResponseEntity.ok().body("OK!");
+                return OK;
         }
     }
 }
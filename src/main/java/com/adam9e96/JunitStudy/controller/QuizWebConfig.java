@@ -0,0 +1,25 @@
+package com.adam9e96.JunitStudy.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * /quiz 전용 MVC 설정.
+ * {@link CodeMessageConverter} 를 Jackson 컨버터보다 앞에 등록해서 {@link Code} 본문을 먼저 처리하게 합니다.
+ */
+@Configuration
+public class QuizWebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new CodeMessageConverter(objectMapper));
+    }
+}
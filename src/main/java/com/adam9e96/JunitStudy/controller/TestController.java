@@ -1,23 +1,224 @@
 package com.adam9e96.JunitStudy.controller;
 
+import com.adam9e96.JunitStudy.cache.MemberChangeTracker;
+import com.adam9e96.JunitStudy.dto.MemberCreateRequest;
+import com.adam9e96.JunitStudy.dto.MemberSummary;
 import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.exporter.MemberExportFormat;
+import com.adam9e96.JunitStudy.exporter.MemberExporter;
+import com.adam9e96.JunitStudy.service.AsyncTestService;
+import com.adam9e96.JunitStudy.service.MemberService;
 import com.adam9e96.JunitStudy.service.TestService;
+import com.adam9e96.JunitStudy.writebehind.MemberWriteBehindBuffer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 public class TestController {
 
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     @Autowired
     TestService testService;
 
+    @Autowired
+    AsyncTestService asyncTestService;
+
+    @Autowired
+    MemberExporter memberExporter;
+
+    @Autowired
+    MemberChangeTracker memberChangeTracker;
+
+    @Autowired
+    MemberService memberService;
+
+    /**
+     * 회원 등록 버퍼(member.write-behind.enabled=true 일 때만 있음)
+     */
+    @Autowired
+    ObjectProvider<MemberWriteBehindBuffer> memberWriteBuffer;
+
+    /**
+     * 이보다 작은 응답은 압축하지 않습니다. 톰캣 압축과 같은 기준을 씁니다.
+     */
+    @Value("${server.compression.min-response-size:2KB}")
+    DataSize compressionMinSize;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    /**
+     * 전체 회원의 id, name 을 조회합니다.
+     * 엔티티 대신 {@link MemberSummary} 프로젝션으로 응답하므로 영속성 컨텍스트와 변경 감지 비용이 들지 않습니다.
+     * 쿼리는 {@link AsyncTestService} 의 스레드 풀에서 실행되고, 그동안 요청 스레드는 반납됩니다.
+     *
+     * <p>
+     * 응답에는 {@link MemberChangeTracker} 의 변경 번호로 만든 강한 ETag 가 붙습니다. 클라이언트가 If-None-Match 로
+     * 같은 ETag 를 보내면 조회와 직렬화 없이 304 를 돌려줍니다. 변경 번호는 쿼리 전에 읽으므로,
+     * 그 사이에 커밋된 변경이 있어도 다음 요청에서 새 번호로 다시 받게 됩니다.
+     * </p>
+     * <p>
+     * 본문이 server.compression.min-response-size 이상이고 Accept-Encoding 이 허용하면 gzip/deflate 로 압축합니다.
+     * 인코딩마다 바이트가 다르므로 ETag 에 인코딩을 붙여서({@code "members-...-gzip"}) 강한 ETag 의미를 지킵니다.
+     * </p>
+     */
     @GetMapping("/test")
-    public List<Member> getAllMembers() {
-        List<Member> members = testService.getAllMembers();
-        return members;
+    public CompletableFuture<ResponseEntity<byte[]>> getAllMembers(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = memberChangeTracker.etag();
+        String matched = matchingEtag(ifNoneMatch, etag);
+        if (matched != null) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(matched)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .cacheControl(CacheControl.noCache())
+                    .build());
+        }
+        return asyncTestService.getMemberSummaries().thenApply(members -> {
+            byte[] body;
+            try {
+                body = objectMapper.writeValueAsBytes(members);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .cacheControl(CacheControl.noCache());
+            ContentCoding coding = body.length >= compressionMinSize.toBytes() ? ContentCoding.negotiate(acceptEncoding) : null;
+            if (coding == null) {
+                return response.eTag(quote(etag)).body(body);
+            }
+            return response.eTag(quote(etag + "-" + coding.token()))
+                    .header(HttpHeaders.CONTENT_ENCODING, coding.token())
+                    .body(coding.encode(body));
+        });
+    }
+
+    /**
+     * If-None-Match 의 ETag 중 현재 변경 번호와 같은 것(인코딩 접미사 무시)을 찾습니다.
+     *
+     * @return 일치한 ETag (따옴표 포함), 없으면 null
+     */
+    static String matchingEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return quote(etag);
+            }
+            String value = tag.startsWith("W/") ? tag.substring(2) : tag;
+            value = value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")
+                    ? value.substring(1, value.length() - 1) : value;
+            for (ContentCoding coding : ContentCoding.values()) {
+                if (value.equals(etag + "-" + coding.token())) {
+                    return quote(value);
+                }
+            }
+            if (value.equals(etag)) {
+                return quote(value);
+            }
+        }
+        return null;
+    }
+
+    private static String quote(String etag) {
+        return "\"" + etag + "\"";
+    }
+
+    /**
+     * 회원을 등록합니다. {@code POST /test} 와 본문 {@code {"name":"홍길동"}} &rarr; {@code 201 Created}
+     *
+     * <p>
+     * write-behind 가 켜져 있으면 요청을 {@link MemberWriteBehindBuffer} 에 넣고, 다른 요청과 함께 한 트랜잭션으로
+     * 커밋된 뒤에 응답합니다. 버퍼가 가득 차면 503 으로 바로 거절합니다.
+     * 꺼져 있으면 요청마다 트랜잭션 하나로 저장합니다.
+     * </p>
+     */
+    @PostMapping("/test")
+    public CompletableFuture<ResponseEntity<MemberSummary>> createMember(@RequestBody MemberCreateRequest request) {
+        String name = request.name();
+        if (name == null || name.isBlank() || name.length() > MemberService.MAX_NAME_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "name must be 1 to 255 characters");
+        }
+        MemberWriteBehindBuffer buffer = memberWriteBuffer.getIfAvailable();
+        CompletableFuture<Member> created = buffer != null
+                ? buffer.create(name)
+                : CompletableFuture.completedFuture(memberService.createMember(name));
+        return created.thenApply(member -> ResponseEntity.status(HttpStatus.CREATED)
+                .body(new MemberSummary(member.getId(), member.getName())));
+    }
+
+    /**
+     * 키셋 페이징 조회. {@code GET /test?afterId=100&limit=50}
+     * 다음 페이지는 응답의 마지막 id 를 afterId 로 넘겨서 요청합니다.
+     */
+    @GetMapping(value = "/test", params = "limit")
+    public CompletableFuture<List<MemberSummary>> getMembersAfter(@RequestParam(value = "afterId", defaultValue = "0") long afterId,
+                                                                 @RequestParam("limit") int limit) {
+        return asyncTestService.getMembersAfter(afterId, limit);
+    }
+
+    /**
+     * 전체 회원을 한 줄에 하나씩 NDJSON 으로 스트리밍합니다.
+     * 응답을 List 로 모으지 않으므로 회원 수가 많아도 메모리 사용량이 일정합니다.
+     */
+    @GetMapping(value = "/test/stream", produces = APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamAllMembers() {
+        return out -> testService.streamAllMembers(member -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(member));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 전체 회원을 gzip 으로 압축한 파일로 내려받습니다. {@code GET /test/export?format=csv}
+     * JDBC 커서에서 읽은 행을 바로 응답 스트림에 쓰므로 엔티티나 List 를 만들지 않습니다.
+     */
+    @GetMapping("/test/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        MemberExportFormat exportFormat;
+        try {
+            exportFormat = MemberExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "unsupported format: " + format);
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, "application/gzip")
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(exportFormat.fileName()).build().toString())
+                .body(out -> memberExporter.export(exportFormat, out));
     }
 
 }
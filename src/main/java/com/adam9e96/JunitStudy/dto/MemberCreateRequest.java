@@ -0,0 +1,15 @@
+package com.adam9e96.JunitStudy.dto;
+
+/**
+ * 회원 등록 요청 본문. {@code POST /test}
+ *
+ * <pre>{@code
+ * {
+ *     "name": "홍길동"
+ * }
+ * }</pre>
+ *
+ * @param name 회원 이름 (1 ~ 255자)
+ */
+public record MemberCreateRequest(String name) {
+}
@@ -0,0 +1,22 @@
+package com.adam9e96.JunitStudy.dto;
+
+/**
+ * <p>
+ * {@code MemberSummary}는 회원 목록 조회 응답에 사용하는 읽기 전용 레코드입니다. <br>
+ * JPQL 생성자 표현식({@code select new ...})으로 id, name 컬럼만 읽어서 만들기 때문에
+ * 영속성 컨텍스트에 엔티티가 올라가지 않고 스냅샷/변경 감지 비용도 없습니다.
+ * </p>
+ *
+ * <p><strong>JSON 예시:</strong></p>
+ * <pre>{@code
+ * {
+ *     "id": 1,
+ *     "name": "A"
+ * }
+ * }</pre>
+ *
+ * @param id   회원 id
+ * @param name 회원 이름
+ */
+public record MemberSummary(Long id, String name) {
+}
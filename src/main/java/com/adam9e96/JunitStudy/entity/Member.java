@@ -1,21 +1,48 @@
 package com.adam9e96.JunitStudy.entity;
 
+import com.adam9e96.JunitStudy.cache.MemberCacheListener;
+import com.adam9e96.JunitStudy.index.MemberIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Hibernate가 생성하는 DDL
  * <p>
  * <code>
  * Hibernate:
+ * create sequence member_seq start with 1 increment by 50
  * create table member (
- * id bigint generated by default as identity,
+ * id bigint not null,
  * name varchar(255) not null,
+ * version bigint default 0 not null,
  * primary key (id)
  * )
+ * create index idx_member_name on member (name)
  * </code>
  * </p>
  * <p>
+ * id 는 IDENTITY 대신 시퀀스(pooled optimizer)로 생성합니다.
+ * IDENTITY 는 INSERT 를 실행해야 id 를 알 수 있어서 Hibernate 가 엔티티마다 INSERT 를 바로 보내고
+ * JDBC 배치를 사용하지 못합니다. 시퀀스는 한 번 조회할 때 allocationSize 만큼 id 를 미리 확보하므로
+ * saveAll() 의 INSERT 를 hibernate.jdbc.batch_size 단위로 묶어서 보낼 수 있습니다.
+ * </p>
+ * <p>
+ * name 컬럼에는 조회용 인덱스(idx_member_name)를 만듭니다. 기본은 중복을 허용하며,
+ * member.name.unique=true 이면 시작 시 유니크 인덱스(uk_member_name)를 추가로 만듭니다.
+ * </p>
+ * <p>
+ * 대부분의 회원은 거의 바뀌지 않으므로 Hibernate 2차 캐시("member" 영역)에 저장합니다.
+ * READ_WRITE 전략이라 변경이 커밋되면 캐시 항목도 함께 갱신됩니다.
+ * </p>
+ * <p>
+ * version 컬럼으로 낙관적 잠금을 사용합니다. UPDATE 는 {@code where id = ? and version = ?} 로 실행되므로
+ * 두 트랜잭션이 같은 회원을 동시에 바꾸면 늦게 커밋한 쪽이 OptimisticLockException 으로 실패하고
+ * 먼저 커밋한 변경을 덮어쓰지 않습니다. 재시도는 {@code MemberService.renameMember} 를 참고하세요.
+ * </p>
+ * <p>
  * {@code @Entity} 속성 중에 name 을 사용하면 name 의 값을 가진 테이블 이름과 매핑되고,
  * 테이블 이름을 지정하지 않으면 클래스 이름과 같은 이름의 테이블과 매핑됩니다.
  * <p>
@@ -25,17 +52,41 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자
 @AllArgsConstructor
 //@Entity(name = "member_list") // 'member_list' 라는 이름을 가진 테이블과 매핑
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Member.CACHE_REGION) // Hibernate 2차 캐시
+@Table(indexes = @Index(name = "idx_member_name", columnList = "name")) // name 조회가 전체 테이블 스캔이 되지 않도록 인덱스 생성
+// 색인 리스너를 먼저 두어, 커밋 후 색인이 바뀐 다음에 변경 번호(ETag)가 올라가게 합니다.
+@EntityListeners({MemberIndexListener.class, MemberCacheListener.class}) // 메모리 색인 반영, 수정/삭제 시 MemberCache 무효화
 @Entity // Member 객체를 JPA가 관리하는 엔티티로 지정 합니다. Member 클래스와 실제 데이터베이스의 테이블을 매핑시킵니다.
 @Data
 @Builder
 public class Member {
+
+    public static final String CACHE_REGION = "member";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
+    @SequenceGenerator(name = "member_seq_generator", sequenceName = "member_seq", allocationSize = 50)
     @Column(name = "id", updatable = false)
     private Long id;
     @Column(name = "name", nullable = false) // name 이라는 not null 컬럼과 매핑
     private String name;
 
+    /**
+     * 낙관적 잠금 버전. 기존 데이터에 컬럼을 추가할 때(ddl-auto=update) 0 으로 채워지도록 기본값을 둡니다.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * version 없이 만드는 생성자. version 이 null 이면 새 엔티티로 보고 persist 합니다.
+     */
+    public Member(Long id, String name) {
+        this(id, name, null);
+    }
+
     public void changeName(String newName) {
         this.name = newName;
     }
@@ -0,0 +1,16 @@
+package com.adam9e96.JunitStudy.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 회원 조회 작업 큐가 가득 차서 요청을 받을 수 없을 때 발생하는 예외.
+ * 컨트롤러까지 전파되면 503 Service Unavailable 로 응답합니다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class MemberQueryRejectedException extends RuntimeException {
+
+    public MemberQueryRejectedException(Throwable cause) {
+        super("member query executor is saturated", cause);
+    }
+}
@@ -0,0 +1,28 @@
+package com.adam9e96.JunitStudy.exporter;
+
+/**
+ * 회원 내보내기 파일 형식. 어느 쪽이든 gzip 으로 압축됩니다.
+ * CSV 는 {@code id,name} 헤더를 포함하므로 그대로 member.import.file 로 다시 가져올 수 있습니다.
+ */
+public enum MemberExportFormat {
+    CSV("members.csv.gz"),
+    NDJSON("members.ndjson.gz");
+
+    private final String fileName;
+
+    MemberExportFormat(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * 내려받을 때 사용할 기본 파일 이름
+     */
+    public String fileName() {
+        return fileName;
+    }
+
+    public static MemberExportFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase();
+        return lower.contains(".ndjson") || lower.contains(".jsonl") ? NDJSON : CSV;
+    }
+}
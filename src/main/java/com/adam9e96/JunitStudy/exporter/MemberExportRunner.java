@@ -0,0 +1,46 @@
+package com.adam9e96.JunitStudy.exporter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * member.export.file 이 지정되면 시작할 때 회원 테이블 전체를 해당 파일로 내보냅니다.
+ *
+ * <pre>
+ * java -jar app.jar --member.export.file=members.ndjson.gz
+ * </pre>
+ * 형식은 member.export.format 으로 정하며, 없으면 파일 이름(.ndjson/.jsonl 포함 여부)으로 정합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("member.export.file")
+public class MemberExportRunner implements ApplicationRunner {
+
+    @Autowired
+    MemberExporter exporter;
+
+    @Value("${member.export.file}")
+    Path file;
+
+    @Value("${member.export.format:}")
+    String format;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        MemberExportFormat exportFormat = format.isBlank()
+                ? MemberExportFormat.fromFileName(file.getFileName().toString())
+                : MemberExportFormat.valueOf(format.toUpperCase());
+
+        long start = System.nanoTime();
+        long rows = exporter.export(exportFormat, file);
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("exported {} members to {} in {} ms ({} rows/s)", rows, file, elapsedMs, rows * 1000 / elapsedMs);
+    }
+}
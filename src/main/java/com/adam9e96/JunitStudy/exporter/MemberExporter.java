@@ -0,0 +1,186 @@
+package com.adam9e96.JunitStudy.exporter;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회원 테이블 전체를 gzip 으로 압축한 NDJSON/CSV 로 내보냅니다.
+ *
+ * <p>
+ * 엔티티나 List 를 만들지 않고 JDBC 커서(forward-only, read-only, fetch size 지정)에서 읽은 행을
+ * 곧바로 출력 스트림에 씁니다. 따라서 메모리 사용량은 fetch size 와 버퍼 크기로 정해지며 행 수와 관계가 없습니다.
+ * (H2 는 MAX_MEMORY_ROWS 를 넘는 결과를 임시 파일로 내려 두므로 서버 쪽 결과도 힙에 쌓이지 않습니다.)
+ * </p>
+ */
+@Component
+public class MemberExporter {
+
+    static final String SELECT_ALL = "SELECT id, name FROM member ORDER BY id";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${member.export.fetch-size:1000}")
+    int fetchSize;
+
+    private final Counter rowsCounter;
+
+    public MemberExporter(MeterRegistry meterRegistry) {
+        rowsCounter = Counter.builder("member.export.rows").register(meterRegistry);
+    }
+
+    /**
+     * 파일로 내보냅니다. 이미 있으면 덮어씁니다.
+     *
+     * @return 내보낸 행 수
+     */
+    public long export(MemberExportFormat format, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             OutputStream out = Channels.newOutputStream(channel)) {
+            return export(format, out);
+        }
+    }
+
+    /**
+     * 출력 스트림에 gzip 으로 압축해서 씁니다. 끝나면 gzip 트레일러까지 쓰고 flush 하지만 out 을 닫지는 않습니다.
+     *
+     * <p>
+     * gzip 스트림은 닫아야 네이티브 {@code Deflater} 메모리가 바로 풀리므로, out 을 닫지 않는 래퍼에 씌워서 닫습니다.
+     * </p>
+     *
+     * @return 내보낸 행 수
+     */
+    public long export(MemberExportFormat format, OutputStream out) throws IOException {
+        try (GZIPOutputStream gzip = new GZIPOutputStream(new NonClosingOutputStream(out), BUFFER_SIZE)) {
+            return switch (format) {
+                case NDJSON -> writeNdjson(gzip);
+                case CSV -> writeCsv(gzip);
+            };
+        }
+    }
+
+    private long writeNdjson(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        long rows = query(rs -> {
+            generator.writeStartObject();
+            generator.writeNumberField("id", rs.getLong(1));
+            generator.writeStringField("name", rs.getString(2));
+            generator.writeEndObject();
+        });
+        if (rows > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+        return rows;
+    }
+
+    private long writeCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write("id,name\n");
+        long rows = query(rs -> {
+            writer.write(Long.toString(rs.getLong(1)));
+            writer.write(',');
+            writeCsvField(writer, rs.getString(2));
+            writer.write('\n');
+        });
+        writer.flush();
+        return rows;
+    }
+
+    /**
+     * 쉼표, 큰따옴표, 줄바꿈이 있거나 빈 문자열이면 큰따옴표로 감싸고 안의 큰따옴표는 "" 로 씁니다.
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value.isEmpty() || value.chars().anyMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(value);
+        }
+    }
+
+    private long query(RowWriter rowWriter) throws IOException {
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(SELECT_ALL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, rs -> {
+                try {
+                    rowWriter.write(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊는 등 출력 중 오류는 원래 IOException 으로 돌려줍니다.
+            throw e.getCause();
+        } finally {
+            rowsCounter.increment(rows[0]);
+        }
+        return rows[0];
+    }
+
+    /**
+     * close() 를 flush() 로 바꿔서 감싼 스트림을 닫지 않습니다. 응답 스트림처럼 호출한 쪽이 닫는 스트림에 씁니다.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            // FilterOutputStream 의 기본 구현은 한 바이트씩 씁니다.
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws IOException, SQLException;
+    }
+}
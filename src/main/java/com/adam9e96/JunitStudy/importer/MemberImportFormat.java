@@ -0,0 +1,22 @@
+package com.adam9e96.JunitStudy.importer;
+
+/**
+ * 회원 가져오기 파일 형식.
+ *
+ * <ul>
+ *     <li>{@link #CSV}: 첫 줄은 헤더이며 name 컬럼이 있어야 합니다. (예: {@code id,name})</li>
+ *     <li>{@link #NDJSON}: 한 줄에 JSON 객체 하나. (예: {@code {"name":"A"}})</li>
+ * </ul>
+ */
+public enum MemberImportFormat {
+    CSV,
+    NDJSON;
+
+    /**
+     * 파일 확장자로 형식을 추정합니다. .ndjson/.jsonl 이 아니면 CSV 로 봅니다.
+     */
+    public static MemberImportFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase();
+        return lower.endsWith(".ndjson") || lower.endsWith(".jsonl") ? NDJSON : CSV;
+    }
+}
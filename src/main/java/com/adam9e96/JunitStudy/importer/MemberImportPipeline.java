@@ -0,0 +1,383 @@
+package com.adam9e96.JunitStudy.importer;
+
+import com.adam9e96.JunitStudy.service.MemberService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대용량 CSV/NDJSON 파일을 회원 테이블로 가져오는 파이프라인.
+ *
+ * <pre>
+ * [읽기 1개] --chunk 큐--> [파싱/검증 N개] --결과 큐--> [저장 1개]
+ * </pre>
+ *
+ * <ul>
+ *     <li>읽기: NIO BufferedReader 로 레코드를 읽어 chunk-size 개씩 묶습니다. CSV 는 큰따옴표로 감싼 필드 안의 줄바꿈을
+ *     만나면 따옴표가 닫힐 때까지 다음 줄을 이어 붙여 레코드 하나로 읽습니다. (내보내기 파일을 그대로 가져올 수 있도록)</li>
+ *     <li>파싱/검증: 여러 스레드가 병렬로 name 을 꺼내고, {@code POST /test} 와 같은 기준으로 null 이거나 공백뿐이거나
+ *     255자를 넘는 레코드는 버립니다.</li>
+ *     <li>저장: chunk 순서대로 {@link MemberService#importMembers(Iterable)} 로 배치 INSERT 하고,
+ *     커밋이 끝난 마지막 줄 번호를 체크포인트 파일에 기록합니다.</li>
+ * </ul>
+ * <p>
+ * 단계 사이의 큐는 크기가 정해져 있어 저장이 느리면 읽기도 멈추므로 파일 크기와 관계없이 메모리가 일정합니다.
+ * 중간에 실패하면 같은 체크포인트 파일로 다시 실행해서 이어서 가져올 수 있습니다.
+ * 진행 상황은 member.import.* 메트릭으로 노출됩니다.
+ * </p>
+ */
+@Component
+public class MemberImportPipeline {
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${member.import.chunk-size:1000}")
+    int chunkSize;
+
+    @Value("${member.import.queue-capacity:16}")
+    int queueCapacity;
+
+    @Value("${member.import.parser-threads:0}")
+    int parserThreads;
+
+    private final Counter linesCounter;
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+    private final AtomicLong checkpointLine = new AtomicLong();
+
+    public MemberImportPipeline(MeterRegistry meterRegistry) {
+        linesCounter = Counter.builder("member.import.lines").register(meterRegistry);
+        importedCounter = Counter.builder("member.import.members").tag("result", "imported").register(meterRegistry);
+        rejectedCounter = Counter.builder("member.import.members").tag("result", "rejected").register(meterRegistry);
+        Gauge.builder("member.import.checkpoint", checkpointLine, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * @param file       가져올 파일
+     * @param format     파일 형식
+     * @param checkpoint 체크포인트 파일. 있으면 기록된 줄 다음부터 이어서 가져옵니다.
+     */
+    public MemberImportResult importFile(Path file, MemberImportFormat format, Path checkpoint)
+            throws IOException, InterruptedException {
+        long resumeFrom = readCheckpoint(checkpoint);
+        int parsers = parserThreads > 0 ? parserThreads : Runtime.getRuntime().availableProcessors();
+        BlockingQueue<Chunk> lines = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Chunk> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicLong read = new AtomicLong();
+        AtomicLong imported = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             ExecutorService executor = Executors.newFixedThreadPool(parsers + 1)) {
+            RecordReader records = new RecordReader(reader, format == MemberImportFormat.CSV);
+            int nameColumn = -1;
+            if (format == MemberImportFormat.CSV) {
+                String header = records.next();
+                nameColumn = header == null ? -1 : csvFields(header).indexOf("name");
+                if (header != null && nameColumn < 0) {
+                    throw new IllegalArgumentException("CSV header must contain a name column: " + header);
+                }
+            }
+            final int csvNameColumn = nameColumn;
+
+            CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+            List<Future<?>> stages = new ArrayList<>();
+            for (int i = 0; i < parsers; i++) {
+                stages.add(completion.submit(() -> {
+                    parse(format, csvNameColumn, lines, parsed, rejected);
+                    return null;
+                }));
+            }
+            stages.add(completion.submit(() -> {
+                write(parsers, parsed, checkpoint, imported);
+                return null;
+            }));
+
+            try {
+                // 읽기 단계는 호출한 스레드에서 실행합니다.
+                long sequence = 0;
+                List<String> batch = new ArrayList<>(chunkSize);
+                String record;
+                while ((record = records.next()) != null) {
+                    // 체크포인트는 항상 레코드가 끝난 줄이므로 레코드 단위로 건너뛰어도 됩니다.
+                    if (records.lineNumber() <= resumeFrom) {
+                        continue;
+                    }
+                    batch.add(record);
+                    if (batch.size() == chunkSize) {
+                        put(lines, new Chunk(sequence++, records.lineNumber(), batch), stages);
+                        read.addAndGet(batch.size());
+                        linesCounter.increment(batch.size());
+                        batch = new ArrayList<>(chunkSize);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    put(lines, new Chunk(sequence, records.lineNumber(), batch), stages);
+                    read.addAndGet(batch.size());
+                    linesCounter.increment(batch.size());
+                }
+                for (int i = 0; i < parsers; i++) {
+                    put(lines, Chunk.END, stages);
+                }
+                // 끝난 순서대로 확인해야 저장 단계가 실패했을 때 파싱 단계를 기다리며 멈추지 않습니다.
+                for (int i = 0; i < stages.size(); i++) {
+                    await(completion.take());
+                }
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                // 한 단계라도 실패하면 큐에서 기다리는 나머지 단계를 깨워서 멈춥니다.
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+        return new MemberImportResult(resumeFrom, read.get(), imported.get(), rejected.get());
+    }
+
+    private void parse(MemberImportFormat format, int nameColumn, BlockingQueue<Chunk> in, BlockingQueue<Chunk> out,
+                       AtomicLong rejected) throws Exception {
+        Chunk chunk;
+        while ((chunk = in.take()) != Chunk.END) {
+            List<String> names = new ArrayList<>(chunk.lines().size());
+            for (String line : chunk.lines()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String name = format == MemberImportFormat.CSV ? csvName(line, nameColumn) : jsonName(line);
+                if (name == null || name.isBlank() || name.length() > MemberService.MAX_NAME_LENGTH) {
+                    rejected.incrementAndGet();
+                    rejectedCounter.increment();
+                    continue;
+                }
+                names.add(name);
+            }
+            out.put(new Chunk(chunk.sequence(), chunk.lastLine(), names));
+        }
+        out.put(Chunk.END);
+    }
+
+    /**
+     * 병렬 파싱으로 순서가 섞여 도착한 chunk 를 원래 순서대로 저장해야 체크포인트가 정확하므로
+     * 다음 순번이 올 때까지 먼저 도착한 chunk 를 잠시 보관합니다. (최대 파서 수 + 큐 크기 만큼)
+     */
+    private void write(int parsers, BlockingQueue<Chunk> in, Path checkpoint, AtomicLong imported) throws Exception {
+        Map<Long, Chunk> pending = new HashMap<>();
+        long next = 0;
+        int finished = 0;
+        while (finished < parsers) {
+            Chunk chunk = in.take();
+            if (chunk == Chunk.END) {
+                finished++;
+                continue;
+            }
+            pending.put(chunk.sequence(), chunk);
+            Chunk ready;
+            while ((ready = pending.remove(next)) != null) {
+                long saved = ready.lines().isEmpty() ? 0 : memberService.importMembers(ready.lines());
+                imported.addAndGet(saved);
+                importedCounter.increment(saved);
+                writeCheckpoint(checkpoint, ready.lastLine());
+                next++;
+            }
+        }
+    }
+
+    private static void put(BlockingQueue<Chunk> queue, Chunk chunk, List<Future<?>> stages)
+            throws InterruptedException {
+        // 다음 단계가 실패해서 큐가 더 이상 비워지지 않으면 읽기를 멈춥니다.
+        while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+            for (Future<?> stage : stages) {
+                if (stage.isDone()) {
+                    await(stage);
+                    throw new IllegalStateException("member import stage stopped early");
+                }
+            }
+        }
+    }
+
+    private static void await(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private String jsonName(String line) {
+        try {
+            JsonNode name = objectMapper.readTree(line).get("name");
+            return name != null && name.isTextual() ? name.textValue() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String csvName(String line, int nameColumn) {
+        List<String> fields = csvFields(line);
+        return nameColumn < fields.size() ? fields.get(nameColumn) : null;
+    }
+
+    /**
+     * 한 줄을 CSV 필드로 나눕니다. 큰따옴표로 감싼 필드와 "" 이스케이프를 지원합니다.
+     * 빈 필드는 null 로 봅니다.
+     */
+    static List<String> csvFields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+        return fields;
+    }
+
+    private static long readCheckpoint(Path checkpoint) throws IOException {
+        if (checkpoint == null || !Files.exists(checkpoint)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(checkpoint).trim());
+    }
+
+    private void writeCheckpoint(Path checkpoint, long line) throws IOException {
+        checkpointLine.set(line);
+        if (checkpoint == null) {
+            return;
+        }
+        // 쓰다가 중단되어도 이전 체크포인트가 깨지지 않도록 임시 파일에 쓰고 교체합니다.
+        Path tmp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        Files.writeString(tmp, Long.toString(line));
+        Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 파일에서 레코드를 하나씩 읽습니다. NDJSON 은 한 줄이 레코드 하나이고, JSON 문자열 안의 줄바꿈은 이스케이프되어 있습니다.
+     * CSV 는 큰따옴표가 홀수 개 나온 줄(따옴표 필드가 열린 채 끝난 줄)이면 닫힐 때까지 다음 줄을 {@code \n} 으로 이어 붙입니다.
+     * 필드 안의 {@code \r\n} 은 {@code \n} 으로 바뀝니다.
+     */
+    static final class RecordReader {
+
+        private final BufferedReader reader;
+        private final boolean csv;
+        private long lineNumber;
+
+        RecordReader(BufferedReader reader, boolean csv) {
+            this.reader = reader;
+            this.csv = csv;
+        }
+
+        /**
+         * @return 다음 레코드, 파일 끝이면 null
+         * @throws IllegalArgumentException 따옴표 필드가 닫히지 않은 채 파일이 끝났을 때
+         */
+        String next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+            if (!csv || !oddQuotes(line)) {
+                return line;
+            }
+            long start = lineNumber;
+            StringBuilder record = new StringBuilder(line);
+            boolean open = true;
+            while (open) {
+                String more = reader.readLine();
+                if (more == null) {
+                    throw new IllegalArgumentException("unterminated quoted CSV field starting at line " + start);
+                }
+                lineNumber++;
+                record.append('\n').append(more);
+                open = !oddQuotes(more);
+            }
+            return record.toString();
+        }
+
+        /**
+         * 지금까지 읽은 마지막 줄 번호 (1부터)
+         */
+        long lineNumber() {
+            return lineNumber;
+        }
+
+        private static boolean oddQuotes(String line) {
+            int quotes = 0;
+            for (int i = 0; i < line.length(); i++) {
+                if (line.charAt(i) == '"') {
+                    quotes++;
+                }
+            }
+            return (quotes & 1) == 1;
+        }
+    }
+
+    /**
+     * 단계 사이를 오가는 작업 단위.
+     *
+     * @param sequence 읽은 순서
+     * @param lastLine 이 chunk 의 마지막 줄 번호 (체크포인트 값)
+     * @param lines    읽기 단계에서는 원본 레코드, 파싱 단계 이후에는 회원 이름
+     */
+    record Chunk(long sequence, long lastLine, List<String> lines) {
+        static final Chunk END = new Chunk(-1, -1, List.of());
+    }
+}
@@ -0,0 +1,12 @@
+package com.adam9e96.JunitStudy.importer;
+
+/**
+ * 회원 가져오기 결과.
+ *
+ * @param resumedFromLine 체크포인트에서 이어받은 줄 번호 (처음부터면 0)
+ * @param linesRead       이번 실행에서 읽은 데이터 레코드 수 (CSV 따옴표 필드 안의 줄바꿈은 레코드 하나로 셉니다)
+ * @param imported        저장한 회원 수
+ * @param rejected        검증에 실패해 건너뛴 줄 수
+ */
+public record MemberImportResult(long resumedFromLine, long linesRead, long imported, long rejected) {
+}
@@ -0,0 +1,54 @@
+package com.adam9e96.JunitStudy.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * member.import.file 이 지정되면 시작할 때 해당 파일을 가져옵니다.
+ *
+ * <pre>
+ * java -jar app.jar --member.import.file=members.csv
+ * </pre>
+ * 체크포인트는 기본으로 가져올 파일 옆의 {@code <파일명>.checkpoint} 에 기록되며,
+ * 같은 명령을 다시 실행하면 마지막으로 커밋된 줄 다음부터 이어서 가져옵니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("member.import.file")
+public class MemberImportRunner implements ApplicationRunner {
+
+    @Autowired
+    MemberImportPipeline pipeline;
+
+    @Value("${member.import.file}")
+    Path file;
+
+    @Value("${member.import.format:}")
+    String format;
+
+    @Value("${member.import.checkpoint:}")
+    String checkpoint;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        MemberImportFormat importFormat = format.isBlank()
+                ? MemberImportFormat.fromFileName(file.getFileName().toString())
+                : MemberImportFormat.valueOf(format.toUpperCase());
+        Path checkpointFile = checkpoint.isBlank()
+                ? file.resolveSibling(file.getFileName() + ".checkpoint")
+                : Path.of(checkpoint);
+
+        long start = System.nanoTime();
+        MemberImportResult result = pipeline.importFile(file, importFormat, checkpointFile);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("imported {} members from {} ({} lines, {} rejected, resumed from line {}) in {} ms",
+                result.imported(), file, result.linesRead(), result.rejected(), result.resumedFromLine(), elapsedMs);
+    }
+}
@@ -0,0 +1,50 @@
+package com.adam9e96.JunitStudy.index;
+
+import com.adam9e96.JunitStudy.entity.Member;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * {@link Member} 엔티티의 저장/수정/삭제를 {@link MemberSnapshotIndex} 에 전달하는 JPA 엔티티 리스너.
+ *
+ * <p>
+ * 색인은 선택 기능이라 빈이 없을 수 있으므로 {@link ObjectProvider} 로 가져오고, 없으면 아무것도 하지 않습니다.
+ * {@code MemberCacheListener} 는 수정과 삭제를 한 메서드에서 처리하므로 이벤트를 구분해야 하는 색인은 리스너를 따로 둡니다.
+ * </p>
+ */
+public class MemberIndexListener {
+
+    @Autowired
+    ObjectProvider<MemberSnapshotIndex> memberIndex;
+
+    @PostPersist
+    public void persisted(Member member) {
+        MemberSnapshotIndex index = index();
+        if (index != null) {
+            index.persisted(member);
+        }
+    }
+
+    @PostUpdate
+    public void updated(Member member) {
+        MemberSnapshotIndex index = index();
+        if (index != null) {
+            index.updated(member);
+        }
+    }
+
+    @PostRemove
+    public void removed(Member member) {
+        MemberSnapshotIndex index = index();
+        if (index != null) {
+            index.removed(member);
+        }
+    }
+
+    private MemberSnapshotIndex index() {
+        return memberIndex == null ? null : memberIndex.getIfAvailable();
+    }
+}
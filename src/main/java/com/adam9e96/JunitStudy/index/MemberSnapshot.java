@@ -0,0 +1,306 @@
+package com.adam9e96.JunitStudy.index;
+
+import com.adam9e96.JunitStudy.dto.MemberSummary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 특정 시점의 회원 id → (name, version), name → id 색인. 만든 뒤에는 바뀌지 않습니다.
+ *
+ * <p>
+ * 두 색인 모두 선형 탐사(linear probing) 오픈 어드레싱 해시 테이블이며 키와 값을 원시 타입 배열에 나눠 담습니다.
+ * {@code HashMap<Long, ...>} 과 달리 조회할 때 {@code Long} 박싱이나 엔트리 객체를 거치지 않고,
+ * 적재율을 1/2 이하로 유지하므로 평균 한두 칸 안에서 찾습니다.
+ * </p>
+ * <p>
+ * id 는 시퀀스로 만들어져 1 이상이므로 0 을 빈 칸 표시로 씁니다. name → id 는 이름이 같은 회원 중 id 가 가장 작은
+ * 회원을 가리킵니다. ({@code MemberRepository.findFirstByNameOrderByIdAsc} 와 같은 의미)
+ * </p>
+ * <p>
+ * 변경은 {@link #toBuilder()} 로 배열을 복사한 {@link Builder} 에 적용하고 새 스냅샷을 만듭니다(copy-on-write).
+ * 읽는 쪽은 잠금 없이 스냅샷 하나를 끝까지 사용하므로 조회 도중 값이 바뀌지 않습니다.
+ * </p>
+ */
+public final class MemberSnapshot {
+
+    static final MemberSnapshot EMPTY = new Builder(0).build(0);
+
+    private static final long FREE = 0L;
+
+    private final long version;
+    private final int size;
+
+    private final long[] ids;
+    private final String[] names;
+    private final long[] versions;
+
+    private final String[] nameKeys;
+    private final long[] nameIds;
+
+    /**
+     * id 순으로 정렬한 목록. 처음 필요할 때 만듭니다. (여러 스레드가 동시에 만들어도 결과가 같으므로 잠그지 않습니다.)
+     */
+    private volatile List<MemberSummary> summaries;
+
+    private MemberSnapshot(long version, int size, long[] ids, String[] names, long[] versions) {
+        this.version = version;
+        this.size = size;
+        this.ids = ids;
+        this.names = names;
+        this.versions = versions;
+
+        int capacity = capacityFor(size);
+        this.nameKeys = new String[capacity];
+        this.nameIds = new long[capacity];
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != FREE) {
+                indexName(names[i], ids[i]);
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 번호. 새 스냅샷을 만들 때마다 1씩 올라갑니다.
+     */
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 회원 이름, 없으면 null
+     */
+    public String name(long id) {
+        int slot = find(ids, id);
+        return slot < 0 ? null : names[slot];
+    }
+
+    /**
+     * @return 회원의 낙관적 잠금 version, 없으면 -1
+     */
+    public long memberVersion(long id) {
+        int slot = find(ids, id);
+        return slot < 0 ? -1 : versions[slot];
+    }
+
+    /**
+     * @return 이름이 같은 회원 중 가장 작은 id, 없으면 0
+     */
+    public long idByName(String name) {
+        int mask = nameKeys.length - 1;
+        for (int slot = hash(name) & mask; ; slot = (slot + 1) & mask) {
+            String key = nameKeys[slot];
+            if (key == null) {
+                return FREE;
+            }
+            if (key.equals(name)) {
+                return nameIds[slot];
+            }
+        }
+    }
+
+    /**
+     * 전체 회원의 id, name 을 id 순으로 돌려줍니다. 스냅샷마다 한 번만 정렬합니다.
+     */
+    public List<MemberSummary> summaries() {
+        List<MemberSummary> result = summaries;
+        if (result == null) {
+            long[] sorted = new long[size];
+            int n = 0;
+            for (long id : ids) {
+                if (id != FREE) {
+                    sorted[n++] = id;
+                }
+            }
+            Arrays.sort(sorted);
+            List<MemberSummary> list = new ArrayList<>(size);
+            for (long id : sorted) {
+                list.add(new MemberSummary(id, name(id)));
+            }
+            result = Collections.unmodifiableList(list);
+            summaries = result;
+        }
+        return result;
+    }
+
+    /**
+     * 이 스냅샷의 내용을 복사한 {@link Builder} 를 만듭니다. 스냅샷 자체는 바뀌지 않습니다.
+     */
+    Builder toBuilder() {
+        return new Builder(ids.clone(), names.clone(), versions.clone(), size);
+    }
+
+    private void indexName(String name, long id) {
+        int mask = nameKeys.length - 1;
+        for (int slot = hash(name) & mask; ; slot = (slot + 1) & mask) {
+            String key = nameKeys[slot];
+            if (key == null) {
+                nameKeys[slot] = name;
+                nameIds[slot] = id;
+                return;
+            }
+            if (key.equals(name)) {
+                nameIds[slot] = Math.min(nameIds[slot], id);
+                return;
+            }
+        }
+    }
+
+    private static int find(long[] ids, long id) {
+        if (id == FREE) {
+            return -1;
+        }
+        int mask = ids.length - 1;
+        for (int slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+            long key = ids[slot];
+            if (key == id) {
+                return slot;
+            }
+            if (key == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int hash(String name) {
+        int h = name.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 적재율이 1/2 을 넘지 않는 2의 거듭제곱 크기
+     */
+    private static int capacityFor(int size) {
+        return Math.max(16, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1);
+    }
+
+    /**
+     * 스냅샷을 만들기 위한 변경 가능한 id 색인. 한 스레드에서만 사용합니다.
+     * name 색인은 {@link #build(long)} 에서 id 색인으로부터 새로 만듭니다.
+     */
+    static final class Builder {
+
+        private long[] ids;
+        private String[] names;
+        private long[] versions;
+        private int size;
+
+        Builder(int expectedSize) {
+            int capacity = capacityFor(expectedSize);
+            this.ids = new long[capacity];
+            this.names = new String[capacity];
+            this.versions = new long[capacity];
+        }
+
+        private Builder(long[] ids, String[] names, long[] versions, int size) {
+            this.ids = ids;
+            this.names = names;
+            this.versions = versions;
+            this.size = size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * id 가 없으면 추가하고, 있으면 version 이 같거나 더 클 때만 바꿉니다.
+         * 커밋 순서와 반영 순서가 어긋나도 오래된 값이 새 값을 덮지 않게 합니다.
+         */
+        void put(long id, String name, long version) {
+            if (id <= FREE || name == null) {
+                return;
+            }
+            int slot = find(ids, id);
+            if (slot >= 0) {
+                if (version >= versions[slot]) {
+                    names[slot] = name;
+                    versions[slot] = version;
+                }
+                return;
+            }
+            if ((size + 1) * 2 > ids.length) {
+                resize(ids.length * 2);
+            }
+            int mask = ids.length - 1;
+            slot = hash(id) & mask;
+            while (ids[slot] != FREE) {
+                slot = (slot + 1) & mask;
+            }
+            ids[slot] = id;
+            names[slot] = name;
+            versions[slot] = version;
+            size++;
+        }
+
+        /**
+         * id 가 있을 때만 이름을 바꿉니다. version 이 음수면 기존 version 에 1을 더합니다. (JPQL 일괄 변경)
+         */
+        void update(long id, String name, long version) {
+            int slot = find(ids, id);
+            if (slot < 0 || name == null) {
+                return;
+            }
+            long next = version < 0 ? versions[slot] + 1 : version;
+            if (next >= versions[slot]) {
+                names[slot] = name;
+                versions[slot] = next;
+            }
+        }
+
+        /**
+         * 선형 탐사 테이블이므로 지운 칸 뒤의 항목들을 앞으로 당겨서(backward shift) 탐사 경로가 끊기지 않게 합니다.
+         */
+        void remove(long id) {
+            int hole = find(ids, id);
+            if (hole < 0) {
+                return;
+            }
+            int mask = ids.length - 1;
+            for (int slot = (hole + 1) & mask; ids[slot] != FREE; slot = (slot + 1) & mask) {
+                int home = hash(ids[slot]) & mask;
+                // home 에서 slot 까지의 탐사 경로가 hole 을 지나면 hole 로 옮길 수 있습니다.
+                if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                    ids[hole] = ids[slot];
+                    names[hole] = names[slot];
+                    versions[hole] = versions[slot];
+                    hole = slot;
+                }
+            }
+            ids[hole] = FREE;
+            names[hole] = null;
+            versions[hole] = 0;
+            size--;
+        }
+
+        MemberSnapshot build(long version) {
+            return new MemberSnapshot(version, size, ids, names, versions);
+        }
+
+        private void resize(int capacity) {
+            long[] oldIds = ids;
+            String[] oldNames = names;
+            long[] oldVersions = versions;
+            ids = new long[capacity];
+            names = new String[capacity];
+            versions = new long[capacity];
+            size = 0;
+            for (int i = 0; i < oldIds.length; i++) {
+                if (oldIds[i] != FREE) {
+                    put(oldIds[i], oldNames[i], oldVersions[i]);
+                }
+            }
+        }
+    }
+}
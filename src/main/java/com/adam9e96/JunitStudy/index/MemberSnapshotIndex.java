@@ -0,0 +1,269 @@
+package com.adam9e96.JunitStudy.index;
+
+import com.adam9e96.JunitStudy.dto.MemberSummary;
+import com.adam9e96.JunitStudy.entity.Member;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 전체 회원을 메모리에 올려 둔 읽기 전용 색인. {@code member.index.enabled=true} 일 때만 만들어집니다.
+ *
+ * <p>
+ * 시작할 때 member 테이블을 한 번 읽어 {@link MemberSnapshot} 을 만들고, 이후에는 {@link MemberIndexListener} 가 전달하는
+ * 저장/수정/삭제 이벤트로 새 스냅샷을 만들어 교체합니다. 조회는 volatile 필드에서 스냅샷을 꺼내 읽기만 하므로
+ * 잠금이 없고, 쓰기 쪽은 스냅샷을 통째로 복사하므로 회원이 자주 바뀌지 않는 경우에 알맞습니다.
+ * </p>
+ * <p>
+ * 트랜잭션 안의 변경은 모아 두었다가 커밋된 뒤에 한 번에 반영하고, 롤백되면 버립니다.
+ * 여러 트랜잭션이 동시에 커밋되면 잠금을 먼저 잡은 스레드가 대기 중인 변경을 모두 모아 스냅샷 하나로 반영하므로,
+ * 대량 등록처럼 커밋이 몰려도 복사 횟수는 커밋 수보다 적습니다. 커밋한 스레드는 자기 변경이 반영된 뒤에 돌아갑니다.
+ * </p>
+ * <p>
+ * 엔티티 리스너를 거치지 않는 일괄 변경(JPQL update/delete)은 {@code MemberService} 가 직접 알려줍니다.
+ * 애플리케이션을 거치지 않은 변경(직접 실행한 SQL, 다른 인스턴스)은 {@link #reload()} 전까지 반영되지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.index.enabled", havingValue = "true")
+public class MemberSnapshotIndex implements MeterBinder {
+
+    static final String SELECT_ALL = "SELECT id, name, version FROM member";
+
+    /**
+     * 커밋 후 콜백(afterCompletion)에서도 다시 읽을 수 있도록, 트랜잭션 동기화에 참여하는 JdbcTemplate 대신
+     * 커넥션을 직접 빌려서 읽습니다.
+     */
+    @Autowired
+    DataSource dataSource;
+
+    private volatile MemberSnapshot snapshot = MemberSnapshot.EMPTY;
+    private volatile boolean ready;
+
+    /**
+     * 커밋됐지만 아직 스냅샷에 반영하지 않은 변경. 여러 스레드가 넣고 잠금을 잡은 스레드 하나가 꺼냅니다.
+     */
+    private final Queue<Change> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder publishes = new LongAdder();
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted() {
+        reload();
+    }
+
+    /**
+     * member 테이블 전체를 다시 읽어 스냅샷을 만듭니다.
+     * 읽는 동안 커밋된 변경은 잠금을 기다렸다가 새 스냅샷 위에 다시 반영됩니다.
+     */
+    public void reload() {
+        publishLock.lock();
+        try {
+            long start = System.nanoTime();
+            MemberSnapshot.Builder builder = new MemberSnapshot.Builder(snapshot.size());
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(SELECT_ALL)) {
+                while (rs.next()) {
+                    builder.put(rs.getLong(1), rs.getString(2), rs.getLong(3));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("failed to load member index", e);
+            }
+            snapshot = builder.build(snapshot.version() + 1);
+            publishes.increment();
+            ready = true;
+            log.info("member index loaded: {} members in {} ms", builder.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * 시작할 때 전체 회원을 읽어 왔는지 여부. false 이면 조회 결과를 믿지 말고 리포지토리를 사용합니다.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 현재 스냅샷. 여러 번 조회할 때 같은 시점의 값을 보려면 스냅샷을 꺼내서 사용합니다.
+     */
+    public MemberSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public Optional<Member> findById(long id) {
+        MemberSnapshot current = snapshot;
+        String name = current.name(id);
+        if (name == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(new Member(id, name, current.memberVersion(id)));
+    }
+
+    /**
+     * 이름이 같은 회원 중 id 가 가장 작은 회원을 찾습니다.
+     */
+    public Optional<Member> findByName(String name) {
+        MemberSnapshot current = snapshot;
+        long id = current.idByName(name);
+        if (id == 0) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(new Member(id, name, current.memberVersion(id)));
+    }
+
+    public List<MemberSummary> summaries() {
+        return snapshot.summaries();
+    }
+
+    public void persisted(Member member) {
+        record(new Change(ChangeType.PUT, member.getId(), member.getName(), versionOf(member)));
+    }
+
+    public void updated(Member member) {
+        record(new Change(ChangeType.UPDATE, member.getId(), member.getName(), versionOf(member)));
+    }
+
+    public void removed(Member member) {
+        record(new Change(ChangeType.REMOVE, member.getId(), null, 0));
+    }
+
+    /**
+     * 엔티티를 읽지 않고 삭제한 id 들을 반영합니다.
+     */
+    public void removed(Collection<Long> ids) {
+        for (Long id : ids) {
+            record(new Change(ChangeType.REMOVE, id, null, 0));
+        }
+    }
+
+    /**
+     * {@code MemberService.renameAll} 이 엔티티 리스너 없이 이름을 바꾼 회원들을 반영합니다. version 은 기존 값에서 1 올립니다.
+     */
+    public void renamed(Map<Long, String> newNames) {
+        newNames.forEach((id, name) -> record(new Change(ChangeType.UPDATE, id, name, -1)));
+    }
+
+    /**
+     * 어떤 회원이 바뀌었는지 모르는 일괄 변경 후에 호출합니다. 커밋된 뒤에 전체를 다시 읽습니다.
+     */
+    public void reloadAfterCommit() {
+        record(new Change(ChangeType.RELOAD, 0L, null, 0));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("member.index.lookups", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("member.index.lookups", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("member.index.publishes", publishes, LongAdder::sum)
+                .register(registry);
+        Gauge.builder("member.index.size", this, index -> index.snapshot().size())
+                .register(registry);
+    }
+
+    private void record(Change change) {
+        if (change.id() == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(change));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Change> changes = (List<Change>) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            List<Change> bound = new ArrayList<>();
+            changes = bound;
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MemberSnapshotIndex.this);
+                    if (status == STATUS_COMMITTED) {
+                        publish(bound);
+                    }
+                }
+            });
+        }
+        changes.add(change);
+    }
+
+    private void publish(List<Change> changes) {
+        pending.addAll(changes);
+        publishLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                // 앞서 잠금을 잡은 스레드가 이미 반영했습니다.
+                return;
+            }
+            MemberSnapshot.Builder builder = snapshot.toBuilder();
+            boolean reload = false;
+            for (Change change; (change = pending.poll()) != null; ) {
+                switch (change.type()) {
+                    case PUT -> builder.put(change.id(), change.name(), change.version());
+                    case UPDATE -> builder.update(change.id(), change.name(), change.version());
+                    case REMOVE -> builder.remove(change.id());
+                    case RELOAD -> reload = true;
+                }
+            }
+            if (reload) {
+                // 꺼낸 변경은 모두 커밋된 것이므로 다시 읽으면 함께 반영됩니다.
+                reload();
+            } else {
+                snapshot = builder.build(snapshot.version() + 1);
+                publishes.increment();
+            }
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private static long versionOf(Member member) {
+        return member.getVersion() == null ? 0 : member.getVersion();
+    }
+
+    private enum ChangeType {
+        PUT, UPDATE, REMOVE, RELOAD
+    }
+
+    private record Change(ChangeType type, Long id, String name, long version) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.adam9e96.JunitStudy.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 관측한 응답 시간으로 동시 처리 수 상한을 조절하는 기울기(gradient) 방식 동시성 제한.
+ *
+ * <p>
+ * window 마다 평균 응답 시간(short RTT)을 재고, 이를 천천히 따라가는 지수 이동 평균(long RTT)과 비교합니다.
+ * </p>
+ * <pre>
+ * gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0)
+ * newLimit = limit * gradient + sqrt(limit)
+ * limit    = limit * 0.8 + newLimit * 0.2      (min-limit ~ max-limit)
+ * </pre>
+ * <ul>
+ *     <li>응답 시간이 평소의 tolerance 배를 넘으면 gradient 가 1 보다 작아져 상한이 줄어듭니다.
+ *     DB 가 느려지면 대기열이 쌓이기 전에 받는 요청 수를 줄이는 효과입니다.</li>
+ *     <li>응답 시간이 평소 수준이면 gradient 가 1 이 되어 sqrt(limit) 만큼씩 늘려 봅니다.
+ *     단, 상한의 절반도 쓰지 않은 window 에서는 늘리지 않습니다. (부하가 적을 때 상한이 끝없이 커지지 않게)</li>
+ *     <li>처리 중에 뒤쪽 작업 큐가 가득 차 503 으로 끝난 요청(drop)이 있으면 응답 시간과 관계없이 상한을 0.9 배로 줄입니다. (AIMD 의 감소 단계)</li>
+ *     <li>과부하가 지나 short RTT 가 long RTT 의 절반 밑으로 내려가면 long RTT 를 빨리 낮춰서
+ *     느렸던 기간의 응답 시간이 새 기준으로 굳지 않게 합니다.</li>
+ * </ul>
+ * <p>
+ * {@link #tryAcquire()} 는 상한을 넘으면 기다리지 않고 false 를 돌려주며, 잠금 없이 CAS 만 사용합니다.
+ * 상한 계산은 window 가 끝난 뒤 처음 {@link #release(long, boolean)} 한 스레드 하나가 합니다.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimit {
+
+    /**
+     * window 안에 이만큼은 완료되어야 상한을 다시 계산합니다.
+     */
+    static final int MIN_WINDOW_SAMPLES = 10;
+
+    /**
+     * long RTT 가 따라가는 속도. 약 100 window 의 평균입니다.
+     */
+    private static final double LONG_RTT_ALPHA = 0.01;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_RATIO = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile double limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile long windowStart;
+    private final AtomicInteger windowMaxInflight = new AtomicInteger();
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAdder windowDrops = new LongAdder();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    /**
+     * 아직 window 를 하나도 마치지 않았으면 0
+     */
+    private double longRttNanos;
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param name         메트릭에 붙일 이름 (엔드포인트)
+     * @param initialLimit 시작할 때의 상한
+     * @param minLimit     줄일 수 있는 최소 상한
+     * @param maxLimit     늘릴 수 있는 최대 상한
+     * @param tolerance    평소 응답 시간의 몇 배까지를 정상으로 볼지 (1 이상)
+     * @param window       상한을 다시 계산하는 최소 간격
+     */
+    public AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit,
+                                    double tolerance, Duration window) {
+        this(name, initialLimit, minLimit, maxLimit, tolerance, window, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit,
+                             double tolerance, Duration window, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("require 1 <= min-limit <= max-limit");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = Math.max(1.0, tolerance);
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 현재 상한
+     */
+    public int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * 처리 중인 요청 수
+     */
+    public int inflight() {
+        return inflight.get();
+    }
+
+    /**
+     * 상한을 넘어서 거절한 요청 수
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * 처리 중인 요청이 상한보다 적으면 자리를 하나 차지합니다. 성공하면 끝날 때 반드시 {@link #release(long, boolean)} 합니다.
+     *
+     * @return 자리를 차지했으면 true, 상한에 닿았으면 false (기다리지 않습니다)
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        if (current + 1 > windowMaxInflight.get()) {
+            windowMaxInflight.accumulateAndGet(current + 1, Math::max);
+        }
+        return true;
+    }
+
+    /**
+     * 요청 처리가 끝났음을 알립니다.
+     *
+     * @param rttNanos 자리를 차지한 뒤 끝날 때까지 걸린 시간
+     * @param dropped  과부하 때문에 실패했으면(뒤쪽 큐가 가득 참 등) true
+     */
+    public void release(long rttNanos, boolean dropped) {
+        inflight.decrementAndGet();
+        windowRttNanos.add(rttNanos);
+        windowSamples.increment();
+        if (dropped) {
+            windowDrops.increment();
+        }
+        long now = nanoClock.getAsLong();
+        if (now - windowStart >= windowNanos && updateLock.tryLock()) {
+            try {
+                if (now - windowStart >= windowNanos && windowSamples.sum() >= MIN_WINDOW_SAMPLES) {
+                    update(now);
+                }
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * window 를 마치고 상한을 다시 계산합니다. updateLock 을 잡은 스레드만 호출합니다.
+     * 합계를 읽고 지우는 사이에 들어온 표본은 다음 window 로 넘어가거나 빠질 수 있지만, 평균에는 영향이 거의 없습니다.
+     */
+    private void update(long now) {
+        long samples = windowSamples.sumThenReset();
+        double shortRtt = (double) windowRttNanos.sumThenReset() / samples;
+        boolean dropped = windowDrops.sumThenReset() > 0;
+        int maxInflight = windowMaxInflight.getAndSet(inflight.get());
+        windowStart = now;
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) * LONG_RTT_ALPHA;
+            if (longRttNanos > shortRtt * 2) {
+                // 과부하가 끝났습니다. 느렸던 기간의 응답 시간을 기준에서 빨리 뺍니다.
+                longRttNanos *= 0.9;
+            }
+        }
+
+        double current = limit;
+        if (dropped) {
+            limit = Math.max(minLimit, current * DROP_RATIO);
+            return;
+        }
+        double gradient = Math.clamp(tolerance * longRttNanos / shortRtt, MIN_GRADIENT, 1.0);
+        if (gradient >= 1.0 && maxInflight < current / 2) {
+            // 상한까지 쓰지 않았으므로 늘려도 되는지 알 수 없습니다.
+            return;
+        }
+        double next = current * gradient + Math.sqrt(current);
+        limit = Math.clamp(current * (1 - SMOOTHING) + next * SMOOTHING, minLimit, maxLimit);
+    }
+}
@@ -0,0 +1,139 @@
+package com.adam9e96.JunitStudy.limit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * {@code /test}, {@code /quiz} 앞에서 {@link AdaptiveConcurrencyLimit} 으로 동시 처리 수를 제한하는 필터.
+ * {@code member.limit.enabled=true} 일 때만 등록됩니다.
+ *
+ * <p>
+ * 두 엔드포인트는 상한을 따로 가지므로, DB 가 느려져 {@code /test} 의 상한이 줄어도 DB 를 쓰지 않는 {@code /quiz} 는 영향을 받지 않습니다.
+ * 상한을 넘은 요청은 대기열에 넣지 않고 바로 {@code 503} 과 {@code Retry-After} 로 응답합니다.
+ * 받아들인 요청은 JDBC 풀이나 조회 스레드 풀 앞에서 오래 기다리지 않으므로, 과부하 중에도 응답 시간이 일정 수준에 머무릅니다.
+ * </p>
+ * <p>
+ * 비동기 응답({@code CompletableFuture})은 비동기 처리가 끝날 때 자리를 반납합니다.
+ * {@code /test/export}, {@code /test/stream} 처럼 오래 걸리는 스트리밍 응답은 응답 시간이 부하와 관계없으므로 제한하지 않습니다.
+ * 상한, 처리 중인 요청 수, 거절 수는 member.limit.* 메트릭으로 노출됩니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "member.limit.enabled", havingValue = "true")
+// 거절한 요청도 http.server.requests 에 기록되도록 관측 필터(HIGHEST_PRECEDENCE + 1) 바로 뒤에 둡니다.
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private final Map<String, AdaptiveConcurrencyLimit> limits;
+
+    public ConcurrencyLimitFilter(@Value("${member.limit.min-limit:4}") int minLimit,
+                                  @Value("${member.limit.tolerance:2.0}") double tolerance,
+                                  @Value("${member.limit.window:100ms}") Duration window,
+                                  @Value("${member.limit.test.initial-limit:20}") int testInitialLimit,
+                                  @Value("${member.limit.test.max-limit:200}") int testMaxLimit,
+                                  @Value("${member.limit.quiz.initial-limit:100}") int quizInitialLimit,
+                                  @Value("${member.limit.quiz.max-limit:1000}") int quizMaxLimit) {
+        this.limits = Map.of(
+                "/test", new AdaptiveConcurrencyLimit("/test", testInitialLimit, minLimit, testMaxLimit, tolerance, window),
+                "/quiz", new AdaptiveConcurrencyLimit("/quiz", quizInitialLimit, minLimit, quizMaxLimit, tolerance, window));
+    }
+
+    /**
+     * @return 경로에 해당하는 제한, 제한하지 않는 경로면 null
+     */
+    public AdaptiveConcurrencyLimit limitFor(String path) {
+        return limits.get(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimit limit = limits.get(request.getRequestURI().substring(request.getContextPath().length()));
+        if (limit == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!limit.tryAcquire()) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseListener(limit, start, response));
+            } else {
+                limit.release(System.nanoTime() - start, isDropped(response));
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AdaptiveConcurrencyLimit limit : limits.values()) {
+            Gauge.builder("member.limit.limit", limit, AdaptiveConcurrencyLimit::limit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("endpoint", limit.name())
+                    .register(registry);
+            Gauge.builder("member.limit.inflight", limit, AdaptiveConcurrencyLimit::inflight)
+                    .tag("endpoint", limit.name())
+                    .register(registry);
+            FunctionCounter.builder("member.limit.rejected", limit, AdaptiveConcurrencyLimit::rejected)
+                    .description("Requests rejected with 503 because the concurrency limit was reached")
+                    .tag("endpoint", limit.name())
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 뒤쪽(조회 스레드 풀, 등록 버퍼)이 가득 차서 503 으로 끝났으면 과부하 신호로 봅니다.
+     */
+    private static boolean isDropped(HttpServletResponse response) {
+        return response.getStatus() == HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+    }
+
+    /**
+     * 비동기 처리가 끝나면(시간 초과, 오류 뒤에도 onComplete 가 호출됩니다) 자리를 반납합니다.
+     */
+    private record ReleaseListener(AdaptiveConcurrencyLimit limit, long start, HttpServletResponse response)
+            implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limit.release(System.nanoTime() - start, isDropped(response));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
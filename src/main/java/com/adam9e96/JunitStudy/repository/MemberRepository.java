@@ -1,10 +1,21 @@
 package com.adam9e96.JunitStudy.repository;
 
+import com.adam9e96.JunitStudy.dto.MemberSummary;
 import com.adam9e96.JunitStudy.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Member 엔티티를 위한 JPA 리포지토리 인터페이스.
@@ -27,6 +38,11 @@ import java.util.Optional;
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
+    /**
+     * 이름 조회 결과를 저장하는 Hibernate 쿼리 캐시 영역
+     */
+    String BY_NAME_CACHE_REGION = "member-by-name";
+
     /**
      * id가 아닌 name 으로 찾고 싶을때는?
      * 기본키가 아닌 속성들을 찾을 때는 값이 있거나 없을 수도 있으므로 JPA에서
@@ -37,9 +53,115 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * name 값이 'C'인 멤버를 찾아야 하는 경우
      * SELECT * FROM member WHERE name = 'C';
      * </p>
+     * <p>
+     * 같은 이름이 두 건 이상이면 IncorrectResultSizeDataAccessException 이 발생하므로
+     * member.name.unique=true 일 때만 사용하고, 그 외에는 {@link #findFirstByNameOrderByIdAsc(String)} 나
+     * {@link #findAllByName(String)} 을 사용합니다.
+     * </p>
+     * <p>
+     * 결과는 쿼리 캐시({@link #BY_NAME_CACHE_REGION})에 저장되고, member 테이블이 바뀌면 자동으로 무효화됩니다.
+     * </p>
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BY_NAME_CACHE_REGION)
+    })
     Optional<Member> findByName(String name);
 
+    /**
+     * 같은 이름 중 id 가 가장 작은 회원을 조회합니다. 이름이 중복되어도 예외가 발생하지 않습니다.
+     * SELECT * FROM member WHERE name = ? ORDER BY id ASC LIMIT 1;
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BY_NAME_CACHE_REGION)
+    })
+    Optional<Member> findFirstByNameOrderByIdAsc(String name);
+
+    /**
+     * 이름이 같은 회원 전체를 {@link Stream} 으로 조회합니다. 트랜잭션 안에서 사용하고 다 쓴 뒤에는 close 해야 합니다.
+     */
+    Stream<Member> findAllByName(String name);
+
+    /**
+     * 이름이 prefix 로 시작하는 회원을 이름 순으로 최대 limit 명 조회합니다.
+     *
+     * <p>
+     * LIKE 'prefix%' 형태(앞부분 고정)로 실행되므로 idx_member_name 인덱스 범위 검색을 사용합니다.
+     * prefix 안의 %, _ 는 스프링 데이터가 이스케이프합니다.
+     * </p>
+     */
+    List<Member> findByNameStartingWithOrderByNameAsc(String prefix, Limit limit);
+
+    /**
+     * 키셋(커서) 페이징 조회.
+     *
+     * <p>
+     * OFFSET 을 사용하지 않고 마지막으로 받은 id 이후의 행만 기본키 인덱스로 읽으므로
+     * 페이지가 뒤로 갈수록 느려지지 않습니다.
+     * SELECT * FROM member WHERE id > ? ORDER BY id ASC LIMIT ?;
+     * </p>
+     *
+     * @param afterId 이전 페이지의 마지막 id (첫 페이지는 0)
+     * @param limit   한 번에 가져올 최대 행 수
+     */
+    List<Member> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * 전체 회원을 {@link Stream} 으로 조회합니다.
+     *
+     * <p>
+     * 결과를 List 로 한꺼번에 만들지 않고 JDBC 커서에서 fetch size 만큼씩 읽어옵니다.
+     * 읽기 전용 힌트로 스냅샷을 만들지 않으며, 반드시 트랜잭션 안에서 사용하고 다 쓴 뒤에는 close 해야 합니다.
+     * </p>
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select m from Member m order by m.id")
+    Stream<Member> streamAll();
+
+    /**
+     * 전체 회원의 id, name 만 {@link MemberSummary} 로 조회합니다.
+     * SELECT id, name FROM member ORDER BY id;
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select new com.adam9e96.JunitStudy.dto.MemberSummary(m.id, m.name) from Member m order by m.id")
+    List<MemberSummary> findAllSummaries();
+
+    /**
+     * {@link #findByIdGreaterThanOrderByIdAsc(Long, Limit)} 의 {@link MemberSummary} 버전입니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select new com.adam9e96.JunitStudy.dto.MemberSummary(m.id, m.name) from Member m where m.id > :afterId order by m.id")
+    List<MemberSummary> findSummariesAfter(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * id 목록에 해당하는 회원을 DELETE 한 번으로 삭제합니다.
+     *
+     * <p>
+     * delete()/deleteAll() 처럼 엔티티를 먼저 읽어오지 않습니다.
+     * 실행 전에 flush 하고 실행 후에 영속성 컨텍스트를 비워서, 이미 삭제된 엔티티가 컨텍스트에 남지 않게 합니다.
+     * DELETE FROM member WHERE id IN (?, ?, ...);
+     * </p>
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Member m where m.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 이름이 LIKE 패턴과 일치하는 회원을 DELETE 한 번으로 삭제합니다. (예: "temp%")
+     * DELETE FROM member WHERE name LIKE ?;
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Member m where m.name like :pattern")
+    int deleteByNameLike(@Param("pattern") String pattern);
+
     /*
      * 전체조회 -> findAll() 메서드 사용
      * 아이디로 조회 -> findById() 메서드 사용
@@ -0,0 +1,174 @@
+package com.adam9e96.JunitStudy.service;
+
+import com.adam9e96.JunitStudy.dto.MemberSummary;
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.exception.MemberQueryRejectedException;
+import com.adam9e96.JunitStudy.index.MemberSnapshotIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * {@link TestService} 의 비동기 버전.
+ *
+ * <p>
+ * 조회는 전용 스레드 풀에서 실행되고 결과는 {@link CompletableFuture} 로 돌려주므로,
+ * 컨트롤러가 이 값을 반환하면 서블릿 컨테이너 스레드는 쿼리가 끝날 때까지 기다리지 않고 반납됩니다.
+ * </p>
+ *
+ * <p>
+ * 실행 방식은 {@code spring.threads.virtual.enabled} 를 따릅니다.
+ * </p>
+ * <ul>
+ *     <li>플랫폼 스레드(기본): 크기가 정해진 스레드 풀과 대기 큐를 사용합니다. 스레드 수 기본값은 커넥션 풀 크기입니다.</li>
+ *     <li>가상 스레드: 조회마다 가상 스레드를 하나 만들고, 동시에 실행하거나 기다리는 조회 수(pool-size + queue-capacity)만
+ *     세마포어로 제한합니다. 커넥션을 기다리는 동안 캐리어 스레드를 반납하므로 고정된 스레드 수에 묶이지 않습니다.</li>
+ * </ul>
+ * <p>
+ * 어느 쪽이든 한도에 닿으면 더 쌓지 않고 {@link MemberQueryRejectedException}(503) 으로 바로 거절합니다.
+ * 큐 길이와 거절 수는 executor.* (name=memberQueryExecutor), member.query.rejected 메트릭으로,
+ * 가상 스레드에서 처리 중인 조회 수는 member.query.inflight 로 노출됩니다.
+ * </p>
+ */
+@Service
+public class AsyncTestService implements MeterBinder {
+
+    static final String EXECUTOR_NAME = "memberQueryExecutor";
+
+    @Autowired
+    TestService testService;
+
+    /**
+     * 메모리 색인(member.index.enabled=true 일 때만 있음). 준비되어 있으면 전체 목록을 스레드 풀과 DB 없이 돌려줍니다.
+     */
+    @Autowired
+    ObjectProvider<MemberSnapshotIndex> memberIndex;
+
+    /**
+     * 플랫폼 스레드 풀. 가상 스레드를 쓰면 null
+     */
+    private final ThreadPoolTaskExecutor pool;
+    private final ExecutorService executor;
+    /**
+     * 가상 스레드에서 동시에 실행하거나 기다릴 수 있는 조회 수. 플랫폼 스레드 풀을 쓰면 null (풀과 큐가 제한합니다)
+     */
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param poolSize       조회 스레드 수. 커넥션 풀보다 크게 잡아도 커넥션을 기다리기만 하므로 같은 값을 기본으로 합니다.
+     * @param queueCapacity  스레드가 모두 사용 중일 때 기다릴 수 있는 요청 수
+     * @param virtualThreads true 이면 스레드 풀 대신 조회마다 가상 스레드를 사용합니다.
+     */
+    public AsyncTestService(@Value("${member.query.executor.pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int poolSize,
+                            @Value("${member.query.executor.queue-capacity:100}") int queueCapacity,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        maxConcurrent = poolSize + queueCapacity;
+        if (virtualThreads) {
+            pool = null;
+            executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("member-query-", 0).factory());
+            permits = new Semaphore(maxConcurrent);
+        } else {
+            pool = new ThreadPoolTaskExecutor();
+            pool.setThreadNamePrefix("member-query-");
+            pool.setCorePoolSize(poolSize);
+            pool.setMaxPoolSize(poolSize);
+            pool.setQueueCapacity(queueCapacity);
+            pool.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+            pool.initialize();
+            executor = pool.getThreadPoolExecutor();
+            permits = null;
+        }
+    }
+
+    public CompletableFuture<List<Member>> getAllMembers() {
+        return submit(testService::getAllMembers);
+    }
+
+    public CompletableFuture<List<MemberSummary>> getMemberSummaries() {
+        MemberSnapshotIndex index = memberIndex.getIfAvailable();
+        if (index != null && index.isReady()) {
+            return CompletableFuture.completedFuture(index.summaries());
+        }
+        return submit(testService::getMemberSummaries);
+    }
+
+    public CompletableFuture<List<MemberSummary>> getMembersAfter(long afterId, int limit) {
+        return submit(() -> testService.getMembersAfter(afterId, limit));
+    }
+
+    /**
+     * 현재 대기 큐에 쌓인 작업 수. 가상 스레드는 기다리지 않고 바로 시작하므로 항상 0 입니다.
+     */
+    public int queueDepth() {
+        return pool == null ? 0 : pool.getThreadPoolExecutor().getQueue().size();
+    }
+
+    /**
+     * 처리 중이거나 기다리는 조회 수
+     */
+    public int inflight() {
+        return pool == null ? maxConcurrent - permits.availablePermits()
+                : pool.getActiveCount() + queueDepth();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+        Gauge.builder("member.query.inflight", this, AsyncTestService::inflight)
+                .description("Member queries running or waiting for a thread")
+                .register(registry);
+        FunctionCounter.builder("member.query.rejected", rejected, LongAdder::sum)
+                .description("Member queries rejected because the executor queue was full")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> query) {
+        if (permits == null) {
+            try {
+                return CompletableFuture.supplyAsync(query, executor);
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                throw new MemberQueryRejectedException(e);
+            }
+        }
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            throw new MemberQueryRejectedException(
+                    new RejectedExecutionException(maxConcurrent + " member queries already in flight"));
+        }
+        try {
+            return CompletableFuture.supplyAsync(query, executor).whenComplete((result, error) -> permits.release());
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            permits.release();
+            rejected.increment();
+            throw new MemberQueryRejectedException(e);
+        }
+    }
+}
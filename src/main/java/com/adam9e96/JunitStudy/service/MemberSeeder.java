@@ -0,0 +1,48 @@
+package com.adam9e96.JunitStudy.service;
+
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.IntStream;
+
+/**
+ * 시작 시 member 테이블이 비어 있으면 member.seed.count 명의 회원을 채웁니다.
+ *
+ * <p>
+ * 비어 있는지는 첫 행 하나만 읽어서 확인하므로(COUNT(*) 를 쓰지 않음) 파일 DB 에 회원이 수천만 명 있어도
+ * 재시작 시간이 늘어나지 않고, 이미 데이터가 있으면 다시 채우지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class MemberSeeder implements ApplicationRunner {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberService memberService;
+
+    @Value("${member.seed.count:0}")
+    int seedCount;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (seedCount <= 0) {
+            return;
+        }
+        if (!memberRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1)).isEmpty()) {
+            log.info("member table already has data, skip seeding");
+            return;
+        }
+        long seeded = memberService.importMembers(
+                IntStream.range(0, seedCount).mapToObj(i -> "member" + i).toList());
+        log.info("seeded {} members", seeded);
+    }
+}
@@ -0,0 +1,276 @@
+package com.adam9e96.JunitStudy.service;
+
+import com.adam9e96.JunitStudy.cache.MemberCache;
+import com.adam9e96.JunitStudy.cache.MemberChangeTracker;
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.index.MemberSnapshotIndex;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원 쓰기 작업을 담당하는 서비스.
+ */
+@Service
+public class MemberService implements MeterBinder {
+
+    /**
+     * 일괄 삭제/변경 한 문장에 넣는 최대 id 수
+     */
+    static final int BULK_CHUNK_SIZE = 1000;
+
+    /**
+     * renameAll 이 회원마다 실행하는 문장. 모양이 하나뿐이라 쿼리 계획 캐시에 하나만 남습니다.
+     * versioned: version 도 올려서 이 회원을 들고 있던 다른 트랜잭션의 변경이 덮어쓰지 못하게 합니다.
+     */
+    static final String RENAME_JPQL = "update versioned Member m set m.name = :name where m.id = :id";
+
+    /**
+     * member.name 컬럼 길이 (varchar(255))
+     */
+    public static final int MAX_NAME_LENGTH = 255;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberCache memberCache;
+
+    /**
+     * 일괄 변경은 엔티티 리스너를 거치지 않으므로 변경 번호를 직접 올립니다.
+     */
+    @Autowired
+    MemberChangeTracker changeTracker;
+
+    /**
+     * 메모리 색인(member.index.enabled=true 일 때만 있음)에도 일괄 변경을 직접 알립니다.
+     * 변경 번호보다 먼저 알려서 커밋 후 색인이 먼저 바뀌게 합니다.
+     */
+    @Autowired
+    ObjectProvider<MemberSnapshotIndex> memberIndex;
+
+    @Autowired
+    EntityManager entityManager;
+
+    /**
+     * flush/clear 주기. hibernate.jdbc.batch_size 와 같은 값을 사용합니다.
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    int batchSize;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    /**
+     * renameMember 의 최대 시도 횟수 (첫 시도 포함)
+     */
+    @Value("${member.rename.max-attempts:5}")
+    int renameMaxAttempts;
+
+    @Value("${member.rename.backoff-ms:5}")
+    long renameBackoffMs;
+
+    @Value("${member.rename.max-backoff-ms:100}")
+    long renameMaxBackoffMs;
+
+    private final LongAdder renameRetries = new LongAdder();
+    private final LongAdder renameConflicts = new LongAdder();
+
+    /**
+     * 회원 한 명을 등록합니다. write-behind 를 쓰지 않을 때 {@code POST /test} 가 사용합니다.
+     */
+    @Transactional
+    public Member createMember(String name) {
+        return memberRepository.save(Member.builder().name(name).build());
+    }
+
+    /**
+     * 이름 목록으로 회원을 대량 등록합니다.
+     *
+     * <p>
+     * batchSize 개마다 flush() 로 모아둔 INSERT 를 JDBC 배치로 보내고 clear() 로 영속성 컨텍스트를 비웁니다.
+     * 등록한 엔티티를 컨텍스트에 계속 쌓아두지 않으므로 100만 건을 넣어도 메모리가 일정하게 유지됩니다.
+     * </p>
+     *
+     * @param names 등록할 회원 이름들 (지연 로딩되는 Iterable 도 가능)
+     * @return 등록한 회원 수
+     */
+    @Transactional
+    public long importMembers(Iterable<String> names) {
+        long count = 0;
+        for (String name : names) {
+            memberRepository.save(Member.builder().name(name).build());
+            if (++count % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+
+    /**
+     * id 목록에 해당하는 회원을 삭제합니다.
+     * 엔티티를 읽지 않고 {@link #BULK_CHUNK_SIZE} 개씩 DELETE ... WHERE id IN (...) 으로 실행합니다.
+     *
+     * @return 삭제된 회원 수
+     */
+    @Transactional
+    public int deleteByIds(Collection<Long> ids) {
+        int deleted = 0;
+        for (List<Long> chunk : chunks(ids)) {
+            deleted += memberRepository.deleteByIdIn(chunk);
+        }
+        memberCache.invalidate(ids);
+        memberIndex.ifAvailable(index -> index.removed(ids));
+        changeTracker.markChanged();
+        return deleted;
+    }
+
+    /**
+     * 이름이 LIKE 패턴과 일치하는 회원을 DELETE 한 번으로 삭제합니다.
+     * 어떤 id 가 지워졌는지 알 수 없으므로 캐시는 전부 비웁니다.
+     *
+     * @param pattern SQL LIKE 패턴 (예: "temp%")
+     * @return 삭제된 회원 수
+     */
+    @Transactional
+    public int deleteByNamePattern(String pattern) {
+        int deleted = memberRepository.deleteByNameLike(pattern);
+        memberCache.invalidateAll();
+        memberIndex.ifAvailable(MemberSnapshotIndex::reloadAfterCommit);
+        changeTracker.markChanged();
+        return deleted;
+    }
+
+    /**
+     * 회원 한 명의 이름을 바꿉니다.
+     *
+     * <p>
+     * 다른 트랜잭션이 먼저 같은 회원을 바꿔서 낙관적 잠금 충돌이 나면 새 트랜잭션에서 최신 값을 다시 읽어 재시도합니다.
+     * 재시도 사이에는 0 ~ min(backoff-ms * 2^(시도-1), max-backoff-ms) 사이의 임의 시간만큼 쉬어서(full jitter)
+     * 충돌한 스레드들이 같은 순간에 다시 부딪히지 않게 합니다.
+     * member.rename.max-attempts 번 모두 실패하면 마지막 예외를 그대로 던집니다.
+     * </p>
+     * <p>
+     * 시도마다 트랜잭션을 새로 열어야 하므로 이 메서드에는 {@code @Transactional} 을 붙이지 않습니다.
+     * </p>
+     *
+     * @return 이름이 바뀐 회원
+     * @throws IllegalArgumentException 회원이 없을 때
+     * @throws OptimisticLockingFailureException 재시도 횟수를 모두 쓴 경우
+     */
+    public Member renameMember(Long id, String newName) {
+        Objects.requireNonNull(newName, "name must not be null");
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    Member member = memberRepository.findById(id)
+                            .orElseThrow(() -> new IllegalArgumentException("member not found: " + id));
+                    member.changeName(newName);
+                    // 충돌을 커밋이 아니라 여기서 알 수 있도록 바로 flush 합니다.
+                    memberRepository.flush();
+                    return member;
+                });
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= renameMaxAttempts) {
+                    renameConflicts.increment();
+                    throw e;
+                }
+                renameRetries.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(renameBackoffMs << Math.min(attempt - 1, 20), renameMaxBackoffMs);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while retrying rename", e);
+        }
+    }
+
+    /**
+     * id → 새 이름 맵으로 여러 회원의 이름을 한꺼번에 바꿉니다.
+     *
+     * <p>
+     * 엔티티를 읽어 changeName() 후 변경 감지로 UPDATE 하는 대신, 회원마다 {@link #RENAME_JPQL} 을 실행합니다.
+     * 회원 수와 관계없이 문장이 하나뿐이라 쿼리 계획 캐시에 하나만 남고, 문장마다 바인딩 파라미터도 2개입니다.
+     * JDBC 로 직접 실행하지 않고 JPQL 을 쓰는 것은 Hibernate 가 2차 캐시(member 영역)와 쿼리 캐시(member-by-name)를
+     * 무효화하게 하기 위해서입니다. 그렇지 않으면 커밋 후에도 이전 이름과 version 이 캐시에서 조회됩니다.
+     * 실행 전에 flush 하고 실행 후에 영속성 컨텍스트를 비워서 컨텍스트에 이전 이름이 남지 않게 합니다.
+     * 변경된 회원의 version 도 1씩 올라갑니다.
+     * </p>
+     *
+     * @return 변경된 회원 수
+     */
+    @Transactional
+    public int renameAll(Map<Long, String> newNames) {
+        if (newNames.isEmpty()) {
+            return 0;
+        }
+        if (newNames.values().stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("name must not be null");
+        }
+        entityManager.flush();
+        Query query = entityManager.createQuery(RENAME_JPQL);
+        int updated = 0;
+        for (Map.Entry<Long, String> entry : newNames.entrySet()) {
+            updated += query.setParameter("name", entry.getValue())
+                    .setParameter("id", entry.getKey())
+                    .executeUpdate();
+        }
+        entityManager.clear();
+        memberCache.invalidate(newNames.keySet());
+        memberIndex.ifAvailable(index -> index.renamed(newNames));
+        changeTracker.markChanged();
+        return updated;
+    }
+
+    /**
+     * member.rename.retries: 충돌 후 재시도한 횟수, member.rename.conflicts: 재시도를 모두 쓰고 실패한 횟수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("member.rename.retries", renameRetries, LongAdder::sum).register(registry);
+        FunctionCounter.builder("member.rename.conflicts", renameConflicts, LongAdder::sum).register(registry);
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        List<Long> chunk = new ArrayList<>(Math.min(ids.size(), BULK_CHUNK_SIZE));
+        for (Long id : ids) {
+            chunk.add(id);
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
@@ -1,20 +1,71 @@
 package com.adam9e96.JunitStudy.service;
 
+import com.adam9e96.JunitStudy.dto.MemberSummary;
 import com.adam9e96.JunitStudy.entity.Member;
 import com.adam9e96.JunitStudy.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class TestService {
 
+    /**
+     * 키셋 페이징 한 번에 허용하는 최대 행 수
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
     @Autowired
     MemberRepository memberRepository;
 
+    @Autowired
+    EntityManager entityManager;
+
 
     public List<Member> getAllMembers() {
         return memberRepository.findAll();
     }
+
+    /**
+     * 전체 회원의 id, name 을 조회합니다.
+     * 엔티티를 만들지 않는 프로젝션 쿼리를 읽기 전용 트랜잭션에서 실행합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<MemberSummary> getMemberSummaries() {
+        return memberRepository.findAllSummaries();
+    }
+
+    /**
+     * afterId 다음부터 최대 limit 명의 회원을 id 순으로 조회합니다.
+     * limit 은 1 ~ {@link #MAX_PAGE_SIZE} 범위로 맞춥니다.
+     */
+    @Transactional(readOnly = true)
+    public List<MemberSummary> getMembersAfter(long afterId, int limit) {
+        int size = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        return memberRepository.findSummariesAfter(afterId, Limit.of(size));
+    }
+
+    /**
+     * 전체 회원을 한 명씩 consumer 에 넘깁니다.
+     *
+     * <p>
+     * 넘긴 엔티티는 바로 영속성 컨텍스트에서 분리(detach)하므로
+     * 테이블 크기와 관계없이 메모리 사용량이 일정하게 유지됩니다.
+     * </p>
+     */
+    @Transactional(readOnly = true)
+    public void streamAllMembers(Consumer<Member> consumer) {
+        try (Stream<Member> members = memberRepository.streamAll()) {
+            members.forEach(member -> {
+                consumer.accept(member);
+                entityManager.detach(member);
+            });
+        }
+    }
 }
@@ -0,0 +1,253 @@
+package com.adam9e96.JunitStudy.writebehind;
+
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.exception.MemberWriteRejectedException;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.service.MemberService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 회원 등록을 모아서 한 트랜잭션으로 INSERT 하는 write-behind 버퍼. {@code member.write-behind.enabled=true} 일 때만 만들어집니다.
+ *
+ * <pre>
+ * [요청 스레드 N개] --create()--> [제한된 큐] --> [flush 스레드 1개] --saveAll() + 커밋--> future 완료
+ * </pre>
+ *
+ * <ul>
+ *     <li>큐: 여러 스레드가 넣고 flush 스레드 하나만 꺼내는(MPSC) 잠금 없는 {@link ConcurrentLinkedQueue} 에
+ *     CAS 로 자리를 먼저 확보하는 카운터를 더해 크기를 제한합니다. 자리가 없으면 기다리지 않고 바로 거절합니다.</li>
+ *     <li>flush: batch-size 만큼 쌓이거나, 가장 오래된 요청이 max-delay 만큼 기다렸으면 최대 batch-size 건을 꺼내
+ *     한 트랜잭션으로 저장합니다. INSERT 는 hibernate.jdbc.batch_size 단위의 JDBC 배치로 나갑니다.</li>
+ *     <li>응답: {@link #create(String)} 가 돌려준 future 는 해당 트랜잭션이 커밋된 뒤에 완료되므로,
+ *     완료된 회원은 이미 DB 에 저장되어 있습니다. 묶음 저장이 실패하면 한 건씩 다시 저장해서 실패한 요청만 예외로 완료합니다.</li>
+ *     <li>종료: 새 요청을 거절하고, 큐에 남은 요청을 모두 저장한 뒤 flush 스레드를 멈춥니다.</li>
+ * </ul>
+ * <p>
+ * future 는 flush 스레드에서 완료되므로, 이어지는 작업은 오래 걸리지 않는 것만 동기 단계(thenApply 등)로 붙입니다.
+ * 처리량과 지연 시간은 member.write-behind.* 메트릭으로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.write-behind.enabled", havingValue = "true")
+public class MemberWriteBehindBuffer {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private final int capacity;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final Duration shutdownTimeout;
+
+    private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+    /**
+     * 큐에 들어 있거나 들어가려고 자리를 확보한 요청 수
+     */
+    private final AtomicInteger size = new AtomicInteger();
+    private final Thread flusher;
+    private volatile boolean running = true;
+    /**
+     * flush 스레드가 끝난 뒤. 이후 큐에 들어온 요청은 넣은 스레드가 직접 거절합니다.
+     */
+    private volatile boolean terminated;
+
+    private final Counter committedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Timer latencyTimer;
+
+    /**
+     * @param capacity        큐에 담을 수 있는 최대 요청 수. 넘으면 {@link MemberWriteRejectedException} 으로 거절합니다.
+     * @param batchSize       한 트랜잭션으로 저장하는 최대 요청 수
+     * @param maxDelay        가장 오래된 요청이 저장되기까지 기다리는 최대 시간
+     * @param shutdownTimeout 종료할 때 남은 요청을 저장하며 기다리는 최대 시간
+     */
+    public MemberWriteBehindBuffer(MeterRegistry meterRegistry,
+                                   @Value("${member.write-behind.capacity:10000}") int capacity,
+                                   @Value("${member.write-behind.batch-size:500}") int batchSize,
+                                   @Value("${member.write-behind.max-delay:5ms}") Duration maxDelay,
+                                   @Value("${member.write-behind.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+
+        committedCounter = Counter.builder("member.write-behind.members").tag("result", "committed").register(meterRegistry);
+        failedCounter = Counter.builder("member.write-behind.members").tag("result", "failed").register(meterRegistry);
+        rejectedCounter = Counter.builder("member.write-behind.members").tag("result", "rejected").register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("member.write-behind.batch.size").register(meterRegistry);
+        flushTimer = Timer.builder("member.write-behind.flush")
+                .description("Time to insert and commit one batch")
+                .register(meterRegistry);
+        latencyTimer = Timer.builder("member.write-behind.latency")
+                .description("Time from create() to commit")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+        Gauge.builder("member.write-behind.queue", size, AtomicInteger::get).register(meterRegistry);
+
+        flusher = Thread.ofPlatform().name("member-write-behind").daemon().unstarted(this::run);
+    }
+
+    /**
+     * 의존성 주입이 끝난 뒤에 flush 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        flusher.start();
+    }
+
+    /**
+     * 회원 등록을 큐에 넣습니다.
+     *
+     * @return 커밋된 뒤 저장된 회원(id 포함)으로 완료되는 future.
+     * 큐가 가득 찼거나 종료 중이면 {@link MemberWriteRejectedException}, 이름이 잘못됐으면 IllegalArgumentException 으로 완료됩니다.
+     */
+    public CompletableFuture<Member> create(String name) {
+        if (name == null || name.isBlank() || name.length() > MemberService.MAX_NAME_LENGTH) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("name must be 1 to 255 characters"));
+        }
+        if (!running) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(new MemberWriteRejectedException("member write-behind buffer is shutting down"));
+        }
+        int reserved;
+        do {
+            reserved = size.get();
+            if (reserved >= capacity) {
+                rejectedCounter.increment();
+                return CompletableFuture.failedFuture(new MemberWriteRejectedException("member write-behind buffer is full"));
+            }
+        } while (!size.compareAndSet(reserved, reserved + 1));
+
+        Request request = new Request(name, System.nanoTime(), new CompletableFuture<>());
+        queue.offer(request);
+        if (terminated) {
+            // 종료 검사를 지난 직후 flush 스레드가 끝났으면 저장할 스레드가 없습니다.
+            rejectRemaining();
+            return request.future();
+        }
+        // 비어 있던 큐에 처음 들어왔으면 시간 창을 시작하고, batch-size 를 채웠으면 바로 저장하도록 깨웁니다.
+        if (reserved == 0 || reserved + 1 == batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return request.future();
+    }
+
+    /**
+     * 큐에 남아 있는 요청 수
+     */
+    public int pending() {
+        return size.get();
+    }
+
+    /**
+     * 새 요청을 거절하고, 남은 요청을 모두 저장할 때까지 기다립니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        if (!flusher.join(shutdownTimeout)) {
+            log.warn("member write-behind buffer did not drain within {} ({} pending)", shutdownTimeout, size.get());
+            return;
+        }
+        terminated = true;
+        rejectRemaining();
+    }
+
+    private void run() {
+        List<Request> batch = new ArrayList<>(batchSize);
+        while (running || size.get() > 0) {
+            Request oldest = queue.peek();
+            if (oldest == null) {
+                // 자리를 확보하고 아직 넣지 않은 요청이 있을 수 있으므로 잠깐만 기다렸다가 다시 봅니다.
+                LockSupport.parkNanos(this, size.get() > 0 ? 1_000 : maxDelayNanos);
+                continue;
+            }
+            long deadline = oldest.enqueuedAt() + maxDelayNanos;
+            long remaining;
+            while (running && size.get() < batchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            for (Request request; batch.size() < batchSize && (request = queue.poll()) != null; ) {
+                batch.add(request);
+            }
+            size.addAndGet(-batch.size());
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<Request> batch) {
+        batchSizeSummary.record(batch.size());
+        long start = System.nanoTime();
+        List<Member> saved;
+        try {
+            saved = transactionTemplate.execute(status -> memberRepository.saveAll(
+                    batch.stream().map(request -> Member.builder().name(request.name()).build()).toList()));
+        } catch (RuntimeException e) {
+            log.warn("member write-behind batch of {} failed, retrying one by one", batch.size(), e);
+            batch.forEach(this::flushOne);
+            return;
+        }
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        for (int i = 0; i < batch.size(); i++) {
+            complete(batch.get(i), saved.get(i));
+        }
+    }
+
+    private void flushOne(Request request) {
+        try {
+            complete(request, transactionTemplate.execute(status ->
+                    memberRepository.save(Member.builder().name(request.name()).build())));
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            request.future().completeExceptionally(e);
+        }
+    }
+
+    private void complete(Request request, Member member) {
+        committedCounter.increment();
+        latencyTimer.record(System.nanoTime() - request.enqueuedAt(), TimeUnit.NANOSECONDS);
+        request.future().complete(member);
+    }
+
+    private void rejectRemaining() {
+        for (Request request; (request = queue.poll()) != null; ) {
+            size.decrementAndGet();
+            rejectedCounter.increment();
+            request.future().completeExceptionally(new MemberWriteRejectedException("member write-behind buffer is shut down"));
+        }
+    }
+
+    private record Request(String name, long enqueuedAt, CompletableFuture<Member> future) {
+    }
+}
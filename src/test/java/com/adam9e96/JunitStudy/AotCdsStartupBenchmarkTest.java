@@ -0,0 +1,161 @@
+package com.adam9e96.JunitStudy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 애플리케이션을 새 JVM 으로 띄워서 첫 {@code /quiz}, 첫 {@code /test} 요청이 성공할 때까지 걸린 시간을
+ * 기본 실행, CDS, Spring AOT, AOT + CDS 로 비교합니다.
+ *
+ * <p>
+ * {@code ./gradlew benchmark} 로 실행하면 Gradle 이 bootJar 를 풀고({@code extractBootJar}) 학습 실행으로
+ * CDS 아카이브({@code cdsArchive})를 만든 뒤 경로를 시스템 속성으로 넘겨줍니다. IDE 처럼 속성이 없으면 건너뜁니다.
+ * </p>
+ * <p>
+ * 모드마다 {@link #RUNS} 번 띄워 중앙값을 비교하며, AOT + CDS 의 첫 {@code /test} 응답이 기본 실행보다 빨라야 합니다.
+ * 시간은 프로세스를 시작하기 직전부터 재므로 JVM 시작, 클래스 로딩, 컨텍스트 초기화, 첫 요청 처리가 모두 포함됩니다.
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+class AotCdsStartupBenchmarkTest {
+
+    private static final int RUNS = 5;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final HttpClient PROBE = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    // 실패하면 애플리케이션 로그를 볼 수 있도록 남겨 둡니다.
+    @TempDir(cleanup = CleanupMode.ON_SUCCESS)
+    Path logDir;
+
+    private Process process;
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    @Test
+    void firstResponseWithAndWithoutAotAndCds() throws Exception {
+        String jar = System.getProperty("benchmark.startup.jar");
+        String cdsDir = System.getProperty("benchmark.startup.cds-dir");
+        assumeTrue(jar != null && cdsDir != null, "run with ./gradlew benchmark");
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("default", List.of());
+        modes.put("cds", List.of("-XX:SharedArchiveFile=" + Path.of(cdsDir, "default.jsa")));
+        modes.put("aot", List.of("-Dspring.aot.enabled=true"));
+        modes.put("aot+cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + Path.of(cdsDir, "aot.jsa")));
+
+        // 디스크 캐시를 데우기 위해 한 번 띄워 버립니다.
+        measure("warmup", jar, List.of());
+
+        Map<String, Startup> medians = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            long[] quiz = new long[RUNS];
+            long[] test = new long[RUNS];
+            for (int run = 0; run < RUNS; run++) {
+                Startup startup = measure(mode.getKey() + "-" + run, jar, mode.getValue());
+                quiz[run] = startup.quizMillis();
+                test[run] = startup.testMillis();
+            }
+            medians.put(mode.getKey(), new Startup(median(quiz), median(test)));
+        }
+
+        Startup baseline = medians.get("default");
+        medians.forEach((mode, startup) -> log.info("{} first /quiz={}ms first /test={}ms ({}% of default)",
+                String.format("%-8s", mode), startup.quizMillis(), startup.testMillis(),
+                startup.testMillis() * 100 / baseline.testMillis()));
+
+        assertThat(medians.get("aot+cds").testMillis()).isLessThan(baseline.testMillis());
+    }
+
+    /**
+     * 애플리케이션을 띄우고 /quiz, /test 가 각각 처음 200 을 돌려줄 때까지의 시간을 잽니다.
+     */
+    private Startup measure(String name, String jar, List<String> jvmArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", jar, "--server.port=" + port));
+        Path logFile = logDir.resolve(name + ".log");
+
+        long start = System.nanoTime();
+        process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        long quizMillis = -1;
+        long testMillis = -1;
+        try {
+            while (quizMillis < 0 || testMillis < 0) {
+                assertThat(process.isAlive()).as("application exited, see %s", logFile).isTrue();
+                assertThat(System.nanoTime() - start).as("startup timeout, see %s", logFile)
+                        .isLessThan(STARTUP_TIMEOUT.toNanos());
+                if (quizMillis < 0 && ok(port, "/quiz?code=3")) {
+                    quizMillis = (System.nanoTime() - start) / 1_000_000;
+                }
+                if (testMillis < 0 && ok(port, "/test")) {
+                    testMillis = (System.nanoTime() - start) / 1_000_000;
+                }
+                Thread.sleep(5);
+            }
+        } finally {
+            process.destroy();
+            process.waitFor();
+            process = null;
+        }
+        return new Startup(quizMillis, testMillis);
+    }
+
+    private static boolean ok(int port, String path) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+            return PROBE.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            // 아직 포트가 열리지 않았습니다.
+            return false;
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Startup(long quizMillis, long testMillis) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.adam9e96.JunitStudy;
+
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * file-db 프로필로 애플리케이션을 두 번 띄워서, 재시작 후에도 데이터가 남아 있고 다시 채워지지 않는지 확인합니다.
+ */
+class FileDatabaseRestartTest {
+
+    @TempDir
+    Path dataDir;
+
+    @DisplayName("file-db: 재시작해도 저장한 회원이 유지되고 초기 데이터는 다시 넣지 않는다.")
+    @Test
+    void dataSurvivesRestart() {
+        // given: 처음 시작하면 5명을 채우고 1명을 더 저장합니다.
+        Long savedId;
+        try (ConfigurableApplicationContext context = start()) {
+            MemberRepository memberRepository = context.getBean(MemberRepository.class);
+            assertThat(memberRepository.count()).isEqualTo(5);
+            savedId = memberRepository.save(Member.builder().name("durable").build()).getId();
+        }
+
+        // when: 같은 파일로 다시 시작합니다.
+        try (ConfigurableApplicationContext context = start()) {
+            MemberRepository memberRepository = context.getBean(MemberRepository.class);
+
+            // then
+            assertThat(memberRepository.count()).isEqualTo(6);
+            assertThat(memberRepository.findById(savedId))
+                    .get()
+                    .extracting(Member::getName)
+                    .isEqualTo("durable");
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(JunitStudyApplication.class)
+                .profiles("file-db")
+                .web(WebApplicationType.NONE)
+                .run("--member.db.path=" + dataDir.resolve("restart").toAbsolutePath(),
+                        "--member.seed.count=5",
+                        "--spring.jpa.show-sql=false");
+    }
+}
@@ -0,0 +1,117 @@
+package com.adam9e96.JunitStudy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * file-db 프로필로 회원 1,000만 명이 있는 DB 를 재시작(warm restart)했을 때 요청을 처리할 수 있을 때까지의 시간을 측정합니다.
+ *
+ * <p>
+ * 같은 JVM 안에서 웹 애플리케이션(톰캣 포함)을 다시 띄우고, 시작을 요청한 시점부터 첫 {@code GET /test?afterId=0&limit=20}
+ * 요청이 200 으로 끝날 때까지를 잽니다. JVM 시작과 클래스 로딩은 앞선 시작에서 끝났으므로 애플리케이션 재시작 비용만 포함됩니다.
+ * </p>
+ * <ul>
+ *     <li>1,000만 명 DB 의 재시작은 {@link #MAX_READY_MILLIS} 안에 끝나야 합니다.</li>
+ *     <li>빈 DB 와의 차이도 {@link #MAX_DIFFERENCE_MILLIS} 미만이어야 합니다. (재시작 시간이 회원 수에 비례하지 않는지)</li>
+ * </ul>
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+class FileDatabaseStartupBenchmarkTest {
+
+    private static final int MEMBERS = 10_000_000;
+    private static final long MAX_READY_MILLIS = 1_000;
+    private static final long MAX_DIFFERENCE_MILLIS = 500;
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void warmRestartWith10MillionMembers() throws Exception {
+        Path dbPath = dataDir.resolve("startup").toAbsolutePath();
+
+        // 스키마 생성 + JVM 워밍업
+        start(dbPath).close();
+        start(dbPath).close();
+
+        long emptyMillis = measureReady(dbPath);
+
+        // 애플리케이션 밖에서 1,000만 행을 채웁니다.
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + dbPath, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO member (id, name) SELECT X, 'member' || X FROM SYSTEM_RANGE(1, " + MEMBERS + ")");
+            statement.execute("ALTER SEQUENCE member_seq RESTART WITH " + (MEMBERS + 1_000));
+        }
+
+        long fullMillis = measureReady(dbPath);
+
+        // 재시작할 때 다시 채우지 않았는지 확인합니다.
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + dbPath, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet count = statement.executeQuery("SELECT COUNT(*) FROM member")) {
+            count.next();
+            assertThat(count.getLong(1)).isEqualTo(MEMBERS);
+        }
+
+        log.info("file-db warm restart until first response: empty={}ms, {} members={}ms", emptyMillis, MEMBERS, fullMillis);
+        assertThat(fullMillis).as("ready to serve with %d members (ms)", MEMBERS).isLessThan(MAX_READY_MILLIS);
+        assertThat(fullMillis - emptyMillis).isLessThan(MAX_DIFFERENCE_MILLIS);
+    }
+
+    /**
+     * 애플리케이션을 시작하고 첫 조회 요청이 성공할 때까지의 시간(ms)
+     */
+    private long measureReady(Path dbPath) throws Exception {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = start(dbPath)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/test?afterId=0&limit=20")).GET().build();
+            while (!ok(request)) {
+                Thread.sleep(1);
+            }
+            return (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+
+    private static boolean ok(HttpRequest request) throws InterruptedException {
+        try {
+            return CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            // 아직 요청을 받을 수 없습니다.
+            return false;
+        }
+    }
+
+    private ConfigurableApplicationContext start(Path dbPath) {
+        return new SpringApplicationBuilder(JunitStudyApplication.class)
+                .profiles("file-db")
+                .run("--member.db.path=" + dbPath,
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.org.hibernate.SQL=warn",
+                        "--logging.level.org.hibernate.type.descriptor.sql=warn");
+    }
+}
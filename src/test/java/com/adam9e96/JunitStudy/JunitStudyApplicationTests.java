@@ -1,9 +1,9 @@
 package com.adam9e96.JunitStudy;
 
+import com.adam9e96.JunitStudy.support.IntegrationTest;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@IntegrationTest
 class JunitStudyApplicationTests {
 
 	@Test
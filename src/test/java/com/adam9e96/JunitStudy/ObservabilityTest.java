@@ -0,0 +1,83 @@
+package com.adam9e96.JunitStudy;
+
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.support.IntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청, 리포지토리, Hibernate, 커넥션 풀 메트릭이 등록되고 Prometheus 형식으로 노출되는지 확인합니다.
+ */
+@IntegrationTest // 관측(observation) 필터가 포함된 MockMvc 와 Prometheus 레지스트리를 구성합니다.
+class ObservabilityTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @DisplayName("컨트롤러 요청은 uri 별 http.server.requests 타이머로 기록된다.")
+    @Test
+    void controllerTimers() throws Exception {
+        // when
+        mockMvc.perform(get("/quiz").param("code", "1"));
+        mockMvc.perform(asyncDispatch(mockMvc.perform(get("/test")).andReturn()));
+
+        // then
+        assertThat(meterRegistry.find("http.server.requests").tag("uri", "/quiz").timer()).isNotNull();
+        assertThat(meterRegistry.find("http.server.requests").tag("uri", "/test").timer()).isNotNull();
+    }
+
+    @DisplayName("리포지토리 메서드 호출은 메서드 별 spring.data.repository.invocations 타이머로 기록된다.")
+    @Test
+    void repositoryTimers() {
+        // when
+        memberRepository.findById(1L);
+        memberRepository.findByName("A");
+
+        // then
+        assertThat(meterRegistry.find("spring.data.repository.invocations").tag("method", "findById").timer())
+                .isNotNull();
+        assertThat(meterRegistry.find("spring.data.repository.invocations").tag("method", "findByName").timer())
+                .isNotNull();
+    }
+
+    @DisplayName("Hibernate 통계와 커넥션 풀 메트릭이 등록된다.")
+    @Test
+    void hibernateAndPoolMetrics() {
+        assertThat(meterRegistry.find("hibernate.query.executions").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.entities.loads").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("hikaricp.connections.active").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("member.cache.requests").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("executor.queued").tag("name", "memberQueryExecutor").gauge()).isNotNull();
+        assertThat(meterRegistry.find("member.query.rejected").meters()).isNotEmpty();
+    }
+
+    @DisplayName("/actuator/prometheus 는 Prometheus 형식으로 메트릭을 노출한다.")
+    @Test
+    void prometheusEndpoint() throws Exception {
+        // given
+        mockMvc.perform(get("/quiz").param("code", "1"));
+
+        // when & then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds")))
+                .andExpect(content().string(containsString("hikaricp_connections")));
+    }
+}
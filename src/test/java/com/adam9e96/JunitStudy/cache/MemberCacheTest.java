@@ -0,0 +1,88 @@
+package com.adam9e96.JunitStudy.cache;
+
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.support.JpaSliceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JpaSliceTest
+class MemberCacheTest {
+
+    @Autowired
+    MemberCache memberCache;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        memberCache.invalidateAll();
+    }
+
+    @DisplayName("findById: 두 번째 조회부터는 캐시에서 돌려준다.")
+    @Test
+    void findByIdHit() {
+        // given
+        Member saved = memberCache.save(Member.builder().name("A").build());
+        MemberCache.MemberCacheStats before = memberCache.stats();
+
+        // when
+        memberCache.findById(saved.getId());
+        memberCache.findById(saved.getId());
+
+        // then
+        MemberCache.MemberCacheStats after = memberCache.stats();
+        assertThat(after.missCount() - before.missCount()).isEqualTo(1);
+        assertThat(after.hitCount() - before.hitCount()).isEqualTo(1);
+    }
+
+    /**
+     * 캐시를 거치지 않고 영속 엔티티의 changeName() 으로 이름을 바꿔도
+     * flush 시점에 엔티티 리스너가 캐시를 무효화하는지 확인합니다.
+     */
+    @DisplayName("findByName: 이름이 바뀐 회원은 이전 이름으로 조회되지 않는다.")
+    @Test
+    void renamedMemberIsNotServedUnderOldName() {
+        // given
+        Member saved = memberCache.save(Member.builder().name("A").build());
+        assertThat(memberCache.findByName("A")).isPresent();
+        assertThat(memberCache.findByName("A")).isPresent(); // 캐시 적중
+
+        // when
+        Member managed = memberRepository.findById(saved.getId()).orElseThrow();
+        managed.changeName("Z");
+        memberRepository.flush();
+
+        // then
+        assertThat(memberCache.findByName("A")).isEmpty();
+        assertThat(memberCache.findByName("Z"))
+                .get()
+                .extracting(Member::getId)
+                .isEqualTo(saved.getId());
+        assertThat(memberCache.findById(saved.getId()))
+                .get()
+                .extracting(Member::getName)
+                .isEqualTo("Z");
+    }
+
+    @DisplayName("deleteById: 삭제한 회원은 캐시에서도 사라진다.")
+    @Test
+    void deleteByIdInvalidates() {
+        // given
+        Member saved = memberCache.save(Member.builder().name("B").build());
+        memberCache.findById(saved.getId());
+
+        // when
+        memberCache.deleteById(saved.getId());
+        memberRepository.flush();
+
+        // then
+        assertThat(memberCache.findById(saved.getId())).isEmpty();
+        assertThat(memberCache.findByName("B")).isEmpty();
+    }
+}
@@ -0,0 +1,43 @@
+package com.adam9e96.JunitStudy.config;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingFilterTest {
+
+    @DisplayName("decide: rate 비율만큼만 로그를 통과시킨다.")
+    @Test
+    void samplesByRate() {
+        // given
+        SamplingFilter filter = new SamplingFilter();
+        filter.setRate(0.1);
+        LoggingEvent event = new LoggingEvent();
+
+        // when
+        long passed = IntStream.range(0, 100_000)
+                .filter(i -> filter.decide(event) == FilterReply.NEUTRAL)
+                .count();
+
+        // then
+        assertThat(passed).isBetween(8_000L, 12_000L);
+    }
+
+    @DisplayName("decide: rate 가 0 이면 모두 버리고 1 이면 모두 통과시킨다.")
+    @Test
+    void edgeRates() {
+        SamplingFilter filter = new SamplingFilter();
+        LoggingEvent event = new LoggingEvent();
+
+        filter.setRate(0.0);
+        assertThat(filter.decide(event)).isEqualTo(FilterReply.DENY);
+
+        filter.setRate(1.0);
+        assertThat(filter.decide(event)).isEqualTo(FilterReply.NEUTRAL);
+    }
+}
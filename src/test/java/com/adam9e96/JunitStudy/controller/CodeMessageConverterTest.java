@@ -0,0 +1,91 @@
+package com.adam9e96.JunitStudy.controller;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CodeMessageConverterTest {
+
+    @DisplayName("parse: 단순한 본문은 value 를 바로 읽는다.")
+    @Test
+    void parseSimpleBody() {
+        assertThat(parse("{\"value\":1}")).isEqualTo(new Code(1));
+        assertThat(parse(" { \"value\" : -13 } ")).isEqualTo(new Code(-13));
+        assertThat(parse("{\"name\":\"a\",\"value\":7,\"flag\":true}")).isEqualTo(new Code(7));
+        assertThat(parse("{}")).isEqualTo(new Code(0));
+        assertThat(parse("{\"value\":" + Integer.MIN_VALUE + "}")).isEqualTo(new Code(Integer.MIN_VALUE));
+    }
+
+    @DisplayName("parse: 단순 파서가 처리하지 않는 본문은 null 을 돌려줘 ObjectMapper 로 넘긴다.")
+    @Test
+    void parseFallsBack() {
+        assertThat(parse("{\"value\":1.5}")).isNull();
+        assertThat(parse("{\"value\":\"1\"}")).isNull();
+        assertThat(parse("{\"value\":2147483648}")).isNull();
+        assertThat(parse("{\"nested\":{\"value\":1}}")).isNull();
+        assertThat(parse("{\"na\\\"me\":1}")).isNull();
+        assertThat(parse("{\"value\":1")).isNull();
+        assertThat(parse("[1]")).isNull();
+    }
+
+    @DisplayName("parse: Jackson 이 400 으로 거절하는 본문은 단순 파서도 받아들이지 않는다.")
+    @Test
+    void parseRejectsInvalidJson() {
+        assertThat(parse("{\"x\":foo,\"value\":1}")).isNull();
+        assertThat(parse("{\"x\":-a-,\"value\":1}")).isNull();
+        assertThat(parse("{\"x\":truex,\"value\":1}")).isNull();
+        assertThat(parse("{\"x\":01,\"value\":1}")).isNull();
+        assertThat(parse("{\"x\":1.,\"value\":1}")).isNull();
+        assertThat(parse("{\"x\":\"a\tb\",\"value\":1}")).isNull();
+        assertThat(parse("{\"value\":01}")).isNull();
+        assertThat(parse("{\"value\":-01}")).isNull();
+        assertThat(parse("{\"value\":-}")).isNull();
+    }
+
+    @DisplayName("parse: 다른 키의 true/false/null 과 RFC 8259 수는 건너뛴다.")
+    @Test
+    void parseSkipsValidValues() {
+        assertThat(parse("{\"a\":true,\"b\":false,\"c\":null,\"value\":3}")).isEqualTo(new Code(3));
+        assertThat(parse("{\"a\":-0.5e+10,\"b\":0,\"c\":12E3,\"value\":0}")).isEqualTo(new Code(0));
+    }
+
+    @DisplayName("readInternal: 단순 파서가 거절한 잘못된 본문은 ObjectMapper 를 거쳐 400(HttpMessageNotReadableException)이 된다.")
+    @Test
+    void readInvalidJsonFails() {
+        CodeMessageConverter converter = new CodeMessageConverter(
+                new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        for (String body : List.of("{\"x\":foo,\"value\":1}", "{\"x\":-a-,\"value\":1}", "{\"value\":01}")) {
+            assertThatThrownBy(() -> converter.read(Code.class,
+                    new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8))))
+                    .as(body)
+                    .isInstanceOf(HttpMessageNotReadableException.class);
+        }
+    }
+
+    private static Code parse(String body) {
+        return CodeMessageConverter.parse(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("write: ObjectMapper 와 같은 JSON 을 쓰고, 다시 읽으면 같은 값이다.")
+    @Test
+    void writeUsesObjectMapper() throws Exception {
+        CodeMessageConverter converter = new CodeMessageConverter(new ObjectMapper());
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(new Code(3), MediaType.APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("{\"value\":3}");
+        assertThat(converter.read(Code.class, new MockHttpInputMessage(output.getBodyAsBytes()))).isEqualTo(new Code(3));
+    }
+}
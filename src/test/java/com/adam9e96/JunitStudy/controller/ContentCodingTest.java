@@ -0,0 +1,48 @@
+package com.adam9e96.JunitStudy.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCodingTest {
+
+    @DisplayName("negotiate: q 값이 높은 방식을 고르고, 같으면 gzip 을 우선한다.")
+    @Test
+    void negotiate() {
+        assertThat(ContentCoding.negotiate("gzip, deflate, br")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("deflate")).isEqualTo(ContentCoding.DEFLATE);
+        assertThat(ContentCoding.negotiate("gzip;q=0.5, deflate")).isEqualTo(ContentCoding.DEFLATE);
+        assertThat(ContentCoding.negotiate("*")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("gzip;q=0, *")).isEqualTo(ContentCoding.DEFLATE);
+    }
+
+    @DisplayName("negotiate: 허용하는 방식이 없으면 null 을 돌려준다.")
+    @Test
+    void negotiateIdentity() {
+        assertThat(ContentCoding.negotiate(null)).isNull();
+        assertThat(ContentCoding.negotiate("")).isNull();
+        assertThat(ContentCoding.negotiate("br, identity")).isNull();
+        assertThat(ContentCoding.negotiate("gzip;q=0, deflate;q=0")).isNull();
+        assertThat(ContentCoding.negotiate("*;q=0")).isNull();
+    }
+
+    @DisplayName("encode: 압축한 본문을 풀면 원래 본문과 같다.")
+    @Test
+    void encode() throws IOException {
+        byte[] body = "[{\"id\":1,\"name\":\"홍길동\"}]".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        byte[] gzip = ContentCoding.GZIP.encode(body);
+        byte[] deflate = ContentCoding.DEFLATE.encode(body);
+
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(gzip)).readAllBytes()).isEqualTo(body);
+        assertThat(new InflaterInputStream(new ByteArrayInputStream(deflate)).readAllBytes()).isEqualTo(body);
+        assertThat(gzip.length).isLessThan(body.length);
+    }
+}
@@ -1,12 +1,11 @@
 package com.adam9e96.JunitStudy.controller;
 
+import com.adam9e96.JunitStudy.support.IntegrationTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -19,8 +18,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest
-@AutoConfigureMockMvc
+@IntegrationTest
 class QuizControllerTest {
 
     @Autowired
@@ -121,6 +119,29 @@ class QuizControllerTest {
 
     }
 
+    @DisplayName("quiz(): POST /quiz 본문에 공백과 다른 필드가 있어도 value 로 응답한다.")
+    @Test
+    public void postQuizWithExtraFields() throws Exception {
+        // when
+        final ResultActions result = mockMvc.perform(post("/quiz")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"name\" : \"quiz\", \"value\" : 1 }"));
+
+        // then
+        result
+                .andExpect(status().isForbidden())
+                .andExpect(content().string("Forbidden!"));
+    }
 
+    @DisplayName("quiz(): POST /quiz 본문이 JSON 이 아니면 응답 코드는 400 이다.")
+    @Test
+    public void postQuizMalformed() throws Exception {
+        // when
+        final ResultActions result = mockMvc.perform(post("/quiz")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"value\":"));
 
-}
\ No newline at end of file
+        // then
+        result.andExpect(status().isBadRequest());
+    }
+}
@@ -2,22 +2,37 @@ package com.adam9e96.JunitStudy.controller;
 
 import com.adam9e96.JunitStudy.entity.Member;
 import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.support.IntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -35,8 +50,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @version 1.0.0
  * @since 2024-12-10
  */
-@SpringBootTest // 테스트용 애플리케이션 컨텍스트를 생성합니다.
-@AutoConfigureMockMvc // MockMvc를 자동으로 구성하고 주입합니다.
+@IntegrationTest // 다른 통합 테스트와 같은 애플리케이션 컨텍스트(MockMvc 포함)를 공유합니다.
 @Slf4j // Lombok의 SLF4J 로깅을 활성화합니다.
 class TestControllerTest {
 
@@ -55,6 +69,9 @@ class TestControllerTest {
     @Autowired
     private MemberRepository memberRepository; // Member 엔티티에 대한 리포지토리를 주입받습니다.
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory; // 쿼리 실행 횟수(Hibernate 통계)를 확인할 때 사용합니다.
+
     /**
      * 각 테스트 메서드 실행 전에 MockMvc를 설정합니다.
      * 웹 애플리케이션 컨텍스트를 기반으로 MockMvc 인스턴스를 빌드합니다.
@@ -67,6 +84,8 @@ class TestControllerTest {
     /**
      * 각 테스트 메서드 실행 후에 데이터베이스를 정리합니다.
      * 테스트 데이터가 테스트 간에 영향을 미치지 않도록 모든 Member 엔티티를 삭제합니다.
+     * /test 조회는 AsyncTestService 의 스레드에서 실행되어 테스트 트랜잭션 안의 데이터를 볼 수 없으므로,
+     * 롤백 대신 커밋한 뒤 지웁니다.
      */
     @AfterEach
     public void cleanUp() {
@@ -99,12 +118,16 @@ class TestControllerTest {
         /*
          * 테스트용 더미 데이터를 데이터베이스에 저장합니다.
          */
-        Member saveMember = memberRepository.save(new Member(1L, "홍길동"));
+        Member saveMember = memberRepository.save(new Member(null, "홍길동"));
         log.info("저장된 회원: {}", saveMember); // 저장된 회원 정보 로그 출력
 
         // when 실제 테스트하려는 동작을 수행합니다.
-        final ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
-                .accept(MediaType.APPLICATION_JSON)); // /test 엔드포인트에 GET 요청을 보냅니다.
+        // /test 는 CompletableFuture 를 반환하므로 비동기 처리가 시작된 뒤 asyncDispatch 로 결과를 받습니다.
+        final MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .accept(MediaType.APPLICATION_JSON)) // /test 엔드포인트에 GET 요청을 보냅니다.
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
 
         // 응답 내용을 문자열로 추출하여 로그에 출력
         String responseContent = result.andReturn().getResponse().getContentAsString();
@@ -121,4 +144,190 @@ class TestControllerTest {
 
     }
 
+    /**
+     * {@code /test?afterId=&limit=} 키셋 페이징 요청이 afterId 다음 회원부터 limit 명만 반환하는지 검증합니다.
+     */
+    @DisplayName("getMembersAfter: afterId 이후의 회원을 limit 만큼 조회한다.")
+    @Test
+    public void getMembersAfter() throws Exception {
+        // given
+        List<Member> saved = memberRepository.saveAll(List.of(
+                Member.builder().name("A").build(),
+                Member.builder().name("B").build(),
+                Member.builder().name("C").build()));
+
+        // when
+        final MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get("/test")
+                        .param("afterId", String.valueOf(saved.get(0).getId()))
+                        .param("limit", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(saved.get(1).getId()))
+                .andExpect(jsonPath("$[0].name").value("B"));
+    }
+
+    /**
+     * {@code /test/stream} 요청이 회원을 한 줄에 하나씩 NDJSON 으로 내려주는지 검증합니다.
+     */
+    @DisplayName("streamAllMembers: 전체 회원을 NDJSON 으로 스트리밍한다.")
+    @Test
+    public void streamAllMembers() throws Exception {
+        // given
+        memberRepository.saveAll(List.of(
+                Member.builder().name("A").build(),
+                Member.builder().name("B").build()));
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get("/test/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"name\":\"A\"");
+        assertThat(lines[1]).contains("\"name\":\"B\"");
+    }
+
+    /**
+     * {@code /test/export?format=csv} 요청이 gzip 으로 압축된 CSV 를 첨부 파일로 내려주는지 검증합니다.
+     */
+    @DisplayName("exportMembers: 전체 회원을 gzip CSV 로 내려받는다.")
+    @Test
+    public void exportMembersCsv() throws Exception {
+        // given
+        List<Member> saved = memberRepository.saveAll(List.of(
+                Member.builder().name("A").build(),
+                Member.builder().name("Kim, \"Junior\"").build()));
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get("/test/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/gzip"))
+                .andReturn();
+
+        // then
+        byte[] body = result.getResponse().getContentAsByteArray();
+        String csv = new String(new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(csv).isEqualTo("id,name\n"
+                + saved.get(0).getId() + ",A\n"
+                + saved.get(1).getId() + ",\"Kim, \"\"Junior\"\"\"\n");
+    }
+
+    @DisplayName("exportMembers: 지원하지 않는 형식이면 400 을 반환한다.")
+    @Test
+    public void exportMembersUnsupportedFormat() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/test/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * 회원이 바뀌지 않았으면 If-None-Match 요청에 조회 쿼리 없이 304 를 돌려주고,
+     * 회원이 바뀌면 새 ETag 와 함께 200 을 돌려주는지 검증합니다.
+     */
+    @DisplayName("getAllMembers: ETag 가 같으면 쿼리 없이 304, 회원이 바뀌면 200 을 반환한다.")
+    @Test
+    public void getAllMembersNotModified() throws Exception {
+        // given
+        memberRepository.save(Member.builder().name("A").build());
+        MvcResult first = dispatch(MockMvcRequestBuilders.get("/test")).andExpect(status().isOk()).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"members-");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long queries = statistics.getQueryExecutionCount();
+
+        // when & then: 변경이 없으면 304
+        dispatch(MockMvcRequestBuilders.get("/test").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(queries);
+
+        // when & then: 회원이 추가되면 새 ETag 로 200
+        memberRepository.save(Member.builder().name("B").build());
+        dispatch(MockMvcRequestBuilders.get("/test").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(result -> assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag));
+    }
+
+    /**
+     * 응답이 최소 크기(2KB) 이상이고 Accept-Encoding 에 gzip 이 있으면 gzip 으로 압축하고
+     * 인코딩별 강한 ETag 를 붙이는지 검증합니다.
+     */
+    @DisplayName("getAllMembers: 큰 응답은 Accept-Encoding 에 따라 gzip 으로 압축한다.")
+    @Test
+    public void getAllMembersGzip() throws Exception {
+        // given
+        memberRepository.saveAll(IntStream.range(0, 200)
+                .mapToObj(i -> Member.builder().name("member-with-a-long-name-" + i).build())
+                .toList());
+
+        // when
+        MvcResult result = dispatch(MockMvcRequestBuilders.get("/test").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        // then
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).endsWith("-gzip\"");
+        byte[] body = result.getResponse().getContentAsByteArray();
+        String json = new String(new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(json).contains("member-with-a-long-name-199");
+        assertThat(body.length).isLessThan(json.length());
+
+        // 압축한 ETag 로 다시 물어봐도 304
+        dispatch(MockMvcRequestBuilders.get("/test")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    @DisplayName("createMember: 회원을 등록하면 201 과 id 를 반환하고, 이름이 비어 있으면 400 을 반환한다.")
+    @Test
+    public void createMember() throws Exception {
+        // when
+        MvcResult result = dispatch(MockMvcRequestBuilders.post("/test")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"홍길동\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.name").value("홍길동"))
+                .andReturn();
+
+        // then
+        assertThat(memberRepository.findAll()).extracting(Member::getName).containsExactly("홍길동");
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8))
+                .contains("\"id\":" + memberRepository.findAll().get(0).getId());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/test")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\" \"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * 비동기 처리가 시작되면 asyncDispatch 로 결과를 받고, 아니면 그대로 돌려줍니다.
+     */
+    private ResultActions dispatch(MockHttpServletRequestBuilder request) throws Exception {
+        ResultActions actions = mockMvc.perform(request);
+        MvcResult result = actions.andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            return mockMvc.perform(asyncDispatch(result));
+        }
+        return actions;
+    }
+
 }
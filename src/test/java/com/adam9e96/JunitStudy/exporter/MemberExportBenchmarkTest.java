@@ -0,0 +1,99 @@
+package com.adam9e96.JunitStudy.exporter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 500만 행을 gzip NDJSON/CSV 로 내보내면서 처리량(rows/s)과 Old 영역 증가량을 측정합니다.
+ * 행을 List 로 모으면 500만 건이 Old 영역으로 승격되므로, 증가량이 작다는 것으로 스트리밍 여부를 확인합니다.
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({MemberExporter.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=info",
+        "logging.level.org.hibernate.type.descriptor.sql=info"
+})
+class MemberExportBenchmarkTest {
+
+    private static final int ROWS = 5_000_000;
+    private static final long MAX_OLD_GEN_GROWTH_BYTES = 256L * 1024 * 1024;
+    private static final long MIN_ROWS_PER_SECOND = 100_000;
+
+    @Autowired
+    MemberExporter exporter;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO member (id, name) SELECT X, 'member' || X FROM SYSTEM_RANGE(1, ?)", ROWS);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MemberExportFormat.class)
+    void export5m(MemberExportFormat format) throws Exception {
+        MemoryPoolMXBean oldGen = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(pool -> pool.getName().contains("Old") || pool.getName().contains("Tenured"))
+                .findFirst()
+                .orElseThrow();
+        System.gc();
+        long before = oldGen.getUsage().getUsed();
+        oldGen.resetPeakUsage();
+
+        CountingOutputStream out = new CountingOutputStream();
+        long start = System.nanoTime();
+        long rows = exporter.export(format, out);
+        long elapsedNanos = System.nanoTime() - start;
+
+        long growth = oldGen.getPeakUsage().getUsed() - before;
+        long rowsPerSecond = rows * 1_000_000_000L / elapsedNanos;
+        log.info("format={} rows={} elapsed={}ms rows/s={} gzipBytes={} oldGenGrowth={}KB",
+                format, rows, elapsedNanos / 1_000_000, rowsPerSecond, out.count, growth / 1024);
+
+        assertThat(rows).isEqualTo(ROWS);
+        assertThat(growth).isLessThan(MAX_OLD_GEN_GROWTH_BYTES);
+        assertThat(rowsPerSecond).isGreaterThan(MIN_ROWS_PER_SECOND);
+    }
+
+    /**
+     * 압축된 결과는 버리고 크기만 셉니다.
+     */
+    private static class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.adam9e96.JunitStudy.importer;
+
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.service.MemberService;
+import com.adam9e96.JunitStudy.support.JpaSliceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파이프라인의 저장 단계는 별도 스레드에서 chunk 마다 커밋하므로 테스트 트랜잭션을 끄고 직접 정리합니다.
+ */
+@JpaSliceTest // chunk-size=10, parser-threads=4
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberImportPipelineTest {
+
+    @Autowired
+    MemberImportPipeline pipeline;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("CSV: name 컬럼을 가져오고 이름이 없거나 공백뿐이거나 너무 긴 줄은 건너뛴다.")
+    @Test
+    void importCsv() throws Exception {
+        // given
+        List<String> lines = new ArrayList<>();
+        lines.add("id,name");
+        IntStream.range(0, 95).forEach(i -> lines.add(i + ",member" + i));
+        lines.add("95,\"Kim, \"\"Junior\"\"\"");
+        lines.add("96,");
+        lines.add("97,\"   \"");
+        lines.add("98," + "x".repeat(MemberService.MAX_NAME_LENGTH + 1));
+        Path file = Files.write(dir.resolve("members.csv"), lines);
+        Path checkpoint = dir.resolve("members.csv.checkpoint");
+
+        // when
+        MemberImportResult result = pipeline.importFile(file, MemberImportFormat.CSV, checkpoint);
+
+        // then
+        assertThat(result.linesRead()).isEqualTo(99);
+        assertThat(result.imported()).isEqualTo(96);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(memberRepository.count()).isEqualTo(96);
+        assertThat(memberRepository.findFirstByNameOrderByIdAsc("Kim, \"Junior\"")).isPresent();
+        assertThat(Files.readString(checkpoint)).isEqualTo("100");
+    }
+
+    @DisplayName("CSV: 따옴표로 감싼 필드 안의 줄바꿈은 레코드를 나누지 않는다. (내보낸 CSV 를 그대로 가져올 수 있다)")
+    @Test
+    void importCsvWithQuotedNewline() throws Exception {
+        // given
+        Path file = Files.write(dir.resolve("members.csv"), List.of(
+                "id,name",
+                "1,\"first",
+                "second, \"\"quoted\"\"\"",
+                "2,plain"));
+        Path checkpoint = dir.resolve("members.csv.checkpoint");
+
+        // when
+        MemberImportResult result = pipeline.importFile(file, MemberImportFormat.CSV, checkpoint);
+
+        // then
+        assertThat(result.linesRead()).isEqualTo(2);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(memberRepository.findFirstByNameOrderByIdAsc("first\nsecond, \"quoted\"")).isPresent();
+        assertThat(memberRepository.findFirstByNameOrderByIdAsc("plain")).isPresent();
+        assertThat(Files.readString(checkpoint)).isEqualTo("4");
+    }
+
+    @DisplayName("CSV: 따옴표 필드가 닫히지 않은 채 파일이 끝나면 실패한다.")
+    @Test
+    void unterminatedQuotedFieldFails() throws Exception {
+        Path file = Files.write(dir.resolve("members.csv"), List.of("name", "ok", "\"open", "never closed"));
+
+        assertThatThrownBy(() -> pipeline.importFile(file, MemberImportFormat.CSV, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 3");
+    }
+
+    @DisplayName("NDJSON: 한 줄에 하나씩 가져오고 깨진 JSON 이나 name 이 없는 줄은 건너뛴다.")
+    @Test
+    void importNdjson() throws Exception {
+        // given
+        Path file = Files.write(dir.resolve("members.ndjson"), List.of(
+                "{\"name\":\"A\"}",
+                "{\"id\":2,\"name\":\"B\"}",
+                "{\"name\":null}",
+                "{\"name\":",
+                "",
+                "{\"name\":\"C\"}"));
+
+        // when
+        MemberImportResult result = pipeline.importFile(file, MemberImportFormat.NDJSON, null);
+
+        // then
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(memberRepository.count()).isEqualTo(3);
+    }
+
+    @DisplayName("체크포인트가 있으면 기록된 줄 다음부터 이어서 가져온다.")
+    @Test
+    void resumeFromCheckpoint() throws Exception {
+        // given
+        List<String> lines = new ArrayList<>();
+        lines.add("name");
+        IntStream.range(0, 50).forEach(i -> lines.add("member" + i));
+        Path file = Files.write(dir.resolve("members.csv"), lines);
+        // 헤더 + 30줄까지 이미 커밋된 상태
+        Path checkpoint = Files.writeString(dir.resolve("members.csv.checkpoint"), "31");
+
+        // when
+        MemberImportResult result = pipeline.importFile(file, MemberImportFormat.CSV, checkpoint);
+
+        // then
+        assertThat(result.resumedFromLine()).isEqualTo(31);
+        assertThat(result.imported()).isEqualTo(20);
+        assertThat(memberRepository.findFirstByNameOrderByIdAsc("member29")).isEmpty();
+        assertThat(memberRepository.findFirstByNameOrderByIdAsc("member30")).isPresent();
+        assertThat(Files.readString(checkpoint)).isEqualTo("51");
+    }
+
+    @DisplayName("csvFields: 따옴표로 감싼 필드의 쉼표와 \"\" 이스케이프를 처리한다.")
+    @Test
+    void csvFields() {
+        assertThat(MemberImportPipeline.csvFields("1,\"a,b\",\"\"\"q\"\"\",,\"\""))
+                .containsExactly("1", "a,b", "\"q\"", null, "");
+    }
+}
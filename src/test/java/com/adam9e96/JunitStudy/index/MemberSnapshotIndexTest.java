@@ -0,0 +1,150 @@
+package com.adam9e96.JunitStudy.index;
+
+import com.adam9e96.JunitStudy.cache.MemberCache;
+import com.adam9e96.JunitStudy.dto.MemberSummary;
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.service.MemberService;
+import com.adam9e96.JunitStudy.support.JpaSliceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모리 색인이 커밋된 변경만, 커밋된 뒤에 반영하는지 검증합니다.
+ * 색인은 커밋 후에 바뀌므로 테스트 트랜잭션을 끄고 직접 정리합니다.
+ */
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberSnapshotIndexTest {
+
+    @Autowired
+    MemberSnapshotIndex memberIndex;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberCache memberCache;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        memberIndex.reload();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("reload: 애플리케이션을 거치지 않고 넣은 회원도 다시 읽으면 색인에 들어간다.")
+    @Test
+    void reload() {
+        jdbcTemplate.update("INSERT INTO member (id, name, version) VALUES (1000001, 'external', 0)");
+        assertThat(memberIndex.findById(1000001)).isEmpty();
+
+        memberIndex.reload();
+
+        assertThat(memberIndex.isReady()).isTrue();
+        assertThat(memberIndex.findByName("external")).map(Member::getId).contains(1000001L);
+    }
+
+    @DisplayName("저장/수정/삭제가 커밋되면 색인에 반영된다.")
+    @Test
+    void followsEntityEvents() {
+        Long id = memberRepository.save(Member.builder().name("A").build()).getId();
+        assertThat(memberIndex.findById(id)).map(Member::getName).contains("A");
+
+        memberService.renameMember(id, "B");
+        assertThat(memberIndex.findById(id)).map(Member::getName).contains("B");
+        assertThat(memberIndex.findById(id)).map(Member::getVersion).contains(1L);
+        assertThat(memberIndex.findByName("A")).isEmpty();
+        assertThat(memberIndex.findByName("B")).map(Member::getId).contains(id);
+
+        memberRepository.deleteById(id);
+        assertThat(memberIndex.findById(id)).isEmpty();
+    }
+
+    @DisplayName("롤백된 변경은 색인에 반영되지 않는다.")
+    @Test
+    void ignoresRollback() {
+        long before = memberIndex.snapshot().version();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            memberRepository.saveAndFlush(Member.builder().name("rolled-back").build());
+            status.setRollbackOnly();
+        });
+
+        assertThat(memberIndex.findByName("rolled-back")).isEmpty();
+        assertThat(memberIndex.snapshot().version()).isEqualTo(before);
+    }
+
+    @DisplayName("엔티티 리스너를 거치지 않는 일괄 변경/삭제도 색인에 반영된다.")
+    @Test
+    void followsBulkOperations() {
+        memberService.importMembers(List.of("a", "b", "temp-1", "temp-2"));
+        Long a = memberIndex.findByName("a").orElseThrow().getId();
+        Long b = memberIndex.findByName("b").orElseThrow().getId();
+        assertThat(memberIndex.snapshot().size()).isEqualTo(4);
+
+        memberService.renameAll(Map.of(a, "a2"));
+        memberService.deleteByIds(List.of(b));
+        memberService.deleteByNamePattern("temp-%");
+
+        assertThat(memberIndex.summaries()).extracting(MemberSummary::name).containsExactly("a2");
+        assertThat(memberIndex.findById(a)).map(Member::getVersion).contains(1L);
+    }
+
+    @DisplayName("MemberCache 는 준비된 색인에 있는 회원을 색인에서 돌려준다.")
+    @Test
+    void memberCacheUsesIndex() {
+        Long id = memberRepository.save(Member.builder().name("cached").build()).getId();
+        long misses = memberCache.stats().missCount();
+
+        assertThat(memberCache.findById(id)).map(Member::getName).contains("cached");
+        assertThat(memberCache.findByName("cached")).map(Member::getId).contains(id);
+        assertThat(memberCache.stats().missCount()).isEqualTo(misses);
+    }
+
+    @DisplayName("MemberCache 는 트랜잭션 안에서 색인 대신 리포지토리를 읽어 같은 트랜잭션의 변경을 돌려준다.")
+    @Test
+    void memberCacheReadsOwnWritesInTransaction() {
+        Long renamed = memberRepository.save(Member.builder().name("before").build()).getId();
+        Long deleted = memberRepository.save(Member.builder().name("deleted").build()).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            memberRepository.findById(renamed).orElseThrow().changeName("after");
+            memberRepository.deleteById(deleted);
+
+            assertThat(memberCache.findById(renamed)).map(Member::getName).contains("after");
+            assertThat(memberCache.findByName("before")).isEmpty();
+            assertThat(memberCache.findByName("after")).map(Member::getId).contains(renamed);
+            assertThat(memberCache.findById(deleted)).isEmpty();
+            // 색인에는 아직 커밋된 값만 있습니다.
+            assertThat(memberIndex.findById(renamed)).map(Member::getName).contains("before");
+        });
+
+        assertThat(memberCache.findById(renamed)).map(Member::getName).contains("after");
+        assertThat(memberCache.findById(deleted)).isEmpty();
+    }
+}
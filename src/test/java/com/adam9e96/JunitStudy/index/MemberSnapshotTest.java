@@ -0,0 +1,92 @@
+package com.adam9e96.JunitStudy.index;
+
+import com.adam9e96.JunitStudy.dto.MemberSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberSnapshotTest {
+
+    @DisplayName("put/remove: 충돌과 크기 변경, 중간 삭제 후에도 HashMap 과 같은 결과를 돌려준다.")
+    @Test
+    void matchesHashMap() {
+        MemberSnapshot.Builder builder = new MemberSnapshot.Builder(0);
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            long id = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                builder.remove(id);
+                expected.remove(id);
+            } else {
+                builder.put(id, "member" + i, i);
+                expected.put(id, "member" + i);
+            }
+        }
+
+        MemberSnapshot snapshot = builder.build(1);
+
+        assertThat(snapshot.size()).isEqualTo(expected.size());
+        for (long id = 1; id <= 5_000; id++) {
+            assertThat(snapshot.name(id)).isEqualTo(expected.get(id));
+        }
+        expected.forEach((id, name) -> assertThat(snapshot.idByName(name)).isEqualTo(id));
+    }
+
+    @DisplayName("idByName: 이름이 같은 회원 중 가장 작은 id 를 돌려준다.")
+    @Test
+    void idByNameReturnsSmallestId() {
+        MemberSnapshot.Builder builder = new MemberSnapshot.Builder(0);
+        builder.put(7, "dup", 0);
+        builder.put(3, "dup", 0);
+        builder.put(5, "dup", 0);
+
+        MemberSnapshot snapshot = builder.build(1);
+
+        assertThat(snapshot.idByName("dup")).isEqualTo(3);
+        assertThat(snapshot.idByName("none")).isZero();
+        assertThat(snapshot.name(0)).isNull();
+    }
+
+    @DisplayName("put/update: version 이 더 작은 변경은 무시하고, update 는 없는 회원을 추가하지 않는다.")
+    @Test
+    void ignoresStaleVersions() {
+        MemberSnapshot.Builder builder = new MemberSnapshot.Builder(0);
+        builder.put(1, "v2", 2);
+        builder.put(1, "v1", 1);
+        builder.update(1, "v0", 0);
+        builder.update(2, "ghost", 5);
+        builder.update(1, "bulk", -1);
+
+        MemberSnapshot snapshot = builder.build(1);
+
+        assertThat(snapshot.name(1)).isEqualTo("bulk");
+        assertThat(snapshot.memberVersion(1)).isEqualTo(3);
+        assertThat(snapshot.name(2)).isNull();
+        assertThat(snapshot.memberVersion(2)).isEqualTo(-1);
+    }
+
+    @DisplayName("toBuilder: 새 스냅샷을 만들어도 이전 스냅샷은 바뀌지 않는다.")
+    @Test
+    void copyOnWrite() {
+        MemberSnapshot.Builder builder = new MemberSnapshot.Builder(0);
+        builder.put(1, "A", 0);
+        builder.put(2, "B", 0);
+        MemberSnapshot first = builder.build(1);
+
+        MemberSnapshot.Builder next = first.toBuilder();
+        next.remove(1);
+        next.put(3, "C", 0);
+        MemberSnapshot second = next.build(2);
+
+        assertThat(first.summaries()).containsExactly(new MemberSummary(1L, "A"), new MemberSummary(2L, "B"));
+        assertThat(second.summaries()).containsExactly(new MemberSummary(2L, "B"), new MemberSummary(3L, "C"));
+        assertThat(first.idByName("A")).isEqualTo(1);
+        assertThat(second.idByName("A")).isZero();
+    }
+}
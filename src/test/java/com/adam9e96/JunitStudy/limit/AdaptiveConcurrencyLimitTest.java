@@ -0,0 +1,117 @@
+package com.adam9e96.JunitStudy.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(100);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @DisplayName("tryAcquire: 상한만큼만 자리를 내주고, 반납하면 다시 받는다.")
+    @Test
+    void rejectsAboveLimit() {
+        AdaptiveConcurrencyLimit limit = newLimit(2, 1, 10);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.rejected()).isEqualTo(1);
+
+        limit.release(1_000_000, false);
+        assertThat(limit.inflight()).isEqualTo(1);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @DisplayName("응답 시간이 평소의 tolerance 배를 넘으면 상한을 줄인다.")
+    @Test
+    void shrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimit limit = newLimit(50, 4, 100);
+        runWindows(limit, 5, 50, 10);
+        int before = limit.limit();
+
+        runWindows(limit, 30, before, 100);
+
+        assertThat(limit.limit()).isLessThan(before / 2);
+    }
+
+    @DisplayName("응답 시간이 평소 수준이고 상한까지 쓰면 상한을 늘린다. max-limit 은 넘지 않는다.")
+    @Test
+    void growsWhileLatencyIsStable() {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 4, 40);
+
+        for (int i = 0; i < 100; i++) {
+            runWindows(limit, 1, limit.limit(), 10);
+        }
+
+        assertThat(limit.limit()).isEqualTo(40);
+    }
+
+    @DisplayName("상한의 절반도 쓰지 않았으면 늘리지 않는다.")
+    @Test
+    void doesNotGrowWhenUnderused() {
+        AdaptiveConcurrencyLimit limit = newLimit(20, 4, 100);
+
+        runWindows(limit, 50, 5, 10);
+
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @DisplayName("뒤쪽이 가득 차서 503 으로 끝난 요청이 있으면 응답 시간과 관계없이 상한을 줄인다.")
+    @Test
+    void shrinksOnDrop() {
+        AdaptiveConcurrencyLimit limit = newLimit(50, 4, 100);
+        runWindows(limit, 1, 50, 10);
+        int before = limit.limit();
+
+        for (int i = 0; i < AdaptiveConcurrencyLimit.MIN_WINDOW_SAMPLES; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+        advance();
+        for (int i = 0; i < AdaptiveConcurrencyLimit.MIN_WINDOW_SAMPLES; i++) {
+            limit.release(millis(10), true);
+        }
+
+        assertThat(limit.limit()).isLessThan(before);
+    }
+
+    private AdaptiveConcurrencyLimit newLimit(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimit("test", initial, min, max, 2.0, WINDOW, clock::get);
+    }
+
+    /**
+     * window 마다 최대 concurrency 개씩 동시에 받아 모두 rttMillis 만에 끝내기를, 표본이 MIN_WINDOW_SAMPLES 개 이상 될 때까지 반복합니다.
+     * 마지막 반납 직전에 시계를 window 만큼 넘겨서 그 반납이 상한을 다시 계산하게 합니다.
+     */
+    private void runWindows(AdaptiveConcurrencyLimit limit, int windows, int concurrency, long rttMillis) {
+        int rounds = Math.ceilDiv(AdaptiveConcurrencyLimit.MIN_WINDOW_SAMPLES, concurrency);
+        for (int w = 0; w < windows; w++) {
+            for (int r = 0; r < rounds; r++) {
+                int acquired = 0;
+                while (acquired < concurrency && limit.tryAcquire()) {
+                    acquired++;
+                }
+                for (int i = 0; i < acquired; i++) {
+                    if (r == rounds - 1 && i == acquired - 1) {
+                        advance();
+                    }
+                    limit.release(millis(rttMillis), false);
+                }
+            }
+        }
+    }
+
+    private void advance() {
+        clock.addAndGet(WINDOW.toNanos());
+    }
+
+    private static long millis(long millis) {
+        return Duration.ofMillis(millis).toNanos();
+    }
+}
@@ -0,0 +1,59 @@
+package com.adam9e96.JunitStudy.limit;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    /**
+     * /test 상한 1, /quiz 상한 1
+     */
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 2.0, Duration.ofMillis(100), 1, 1, 1, 1);
+
+    @DisplayName("상한에 닿으면 기다리지 않고 503 과 Retry-After 로 응답한다. 다른 엔드포인트는 영향받지 않는다.")
+    @Test
+    void rejectsAboveLimit() throws Exception {
+        MockHttpServletResponse inner = new MockHttpServletResponse();
+        MockHttpServletResponse quiz = new MockHttpServletResponse();
+        MockHttpServletResponse export = new MockHttpServletResponse();
+
+        // /test 를 처리하는 도중에 같은 엔드포인트와 다른 엔드포인트로 요청이 들어옵니다.
+        filter.doFilter(new MockHttpServletRequest("GET", "/test"), new MockHttpServletResponse(),
+                (request, response) -> {
+                    filter.doFilter(new MockHttpServletRequest("GET", "/test"), inner, new MockFilterChain());
+                    filter.doFilter(new MockHttpServletRequest("GET", "/quiz"), quiz, new MockFilterChain());
+                    filter.doFilter(new MockHttpServletRequest("GET", "/test/export"), export, new MockFilterChain());
+                });
+
+        assertThat(inner.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(inner.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(quiz.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(export.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(filter.limitFor("/test").inflight()).isZero();
+        assertThat(filter.limitFor("/test").rejected()).isEqualTo(1);
+    }
+
+    @DisplayName("비동기 응답은 비동기 처리가 끝날 때 자리를 반납한다.")
+    @Test
+    void releasesWhenAsyncCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(filter.limitFor("/test").inflight()).isEqualTo(1);
+
+        request.getAsyncContext().complete();
+
+        assertThat(filter.limitFor("/test").inflight()).isZero();
+    }
+}
@@ -0,0 +1,127 @@
+package com.adam9e96.JunitStudy.load;
+
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.service.MemberService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code ./gradlew loadTest} 로 실행하는 부하 테스트.
+ *
+ * <p>
+ * JunitStudyApplication 을 임의 포트로 띄우고 가상 스레드 클라이언트로 각 엔드포인트에 부하를 준 뒤,
+ * 처리량, p50/p99/p99.9, 오류율을 build/reports/load 에 기록합니다.
+ * 결과가 아래 임계값을 넘으면 테스트가 실패하므로 성능 회귀가 빌드 실패로 드러납니다.
+ * </p>
+ * <ul>
+ *     <li>load.clients (기본 200), load.requests-per-client (기본 50)</li>
+ *     <li>load.max-p99-ms (기본 500), load.max-p999-ms (기본 2000)</li>
+ *     <li>load.max-error-rate (기본 0.01), load.min-throughput (req/s, 기본 0 = 검사 안 함)</li>
+ * </ul>
+ * 예: {@code ./gradlew loadTest -Pload.clients=1000 -Pload.max-p99-ms=200}
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=info",
+        "logging.level.org.hibernate.type.descriptor.sql=info"
+})
+class ApplicationLoadTest {
+
+    static final int MEMBERS = 1_000;
+
+    static final int CLIENTS = Integer.getInteger("load.clients", 200);
+    static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requests-per-client", 50);
+    static final long MAX_P99_MICROS = Long.getLong("load.max-p99-ms", 500) * 1_000;
+    static final long MAX_P999_MICROS = Long.getLong("load.max-p999-ms", 2_000) * 1_000;
+    static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    static final double MIN_THROUGHPUT = Double.parseDouble(System.getProperty("load.min-throughput", "0"));
+    static final Path REPORT_DIR = Path.of(System.getProperty("load.report-dir", "build/reports/load"));
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @BeforeEach
+    void seed() {
+        if (memberRepository.count() == 0) {
+            memberService.importMembers(IntStream.range(0, MEMBERS).mapToObj(i -> "member" + i).toList());
+        }
+    }
+
+    @Test
+    void memberList() throws Exception {
+        run("GET /test", () -> get("/test"));
+    }
+
+    @Test
+    void memberPage() throws Exception {
+        run("GET /test?afterId&limit", () ->
+                get("/test?afterId=" + ThreadLocalRandom.current().nextInt(MEMBERS) + "&limit=20"));
+    }
+
+    @Test
+    void quizGet() throws Exception {
+        run("GET /quiz", () -> get("/quiz?code=" + ThreadLocalRandom.current().nextInt(1, 4)));
+    }
+
+    @Test
+    void quizPost() throws Exception {
+        run("POST /quiz", () -> HttpRequest.newBuilder(uri("/quiz"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"value\":" + ThreadLocalRandom.current().nextInt(1, 4) + "}"))
+                .build());
+    }
+
+    private void run(String name, Supplier<HttpRequest> request) throws Exception {
+        // 첫 요청들의 클래스 로딩/JIT 비용이 결과에 섞이지 않도록 짧게 예열합니다.
+        LoadGenerator.run(name + " (warm-up)", Math.min(CLIENTS, 50), 10, request);
+        LoadGenerator.Result result = LoadGenerator.run(name, CLIENTS, REQUESTS_PER_CLIENT, request);
+        log.info("{}\n{}", result, result.histogram().percentileDistribution());
+        writeReport(result);
+
+        assertThat(result.errorRate()).as("%s error rate", name).isLessThanOrEqualTo(MAX_ERROR_RATE);
+        assertThat(result.p99Micros()).as("%s p99 (us)", name).isLessThanOrEqualTo(MAX_P99_MICROS);
+        assertThat(result.p999Micros()).as("%s p99.9 (us)", name).isLessThanOrEqualTo(MAX_P999_MICROS);
+        assertThat(result.throughput()).as("%s throughput (req/s)", name).isGreaterThanOrEqualTo(MIN_THROUGHPUT);
+    }
+
+    private static void writeReport(LoadGenerator.Result result) throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        String fileName = result.name().replaceAll("[^A-Za-z0-9]+", "-").replaceAll("^-|-$", "") + ".txt";
+        Files.writeString(REPORT_DIR.resolve(fileName),
+                result + System.lineSeparator() + result.histogram().percentileDistribution());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,146 @@
+package com.adam9e96.JunitStudy.load;
+
+import com.adam9e96.JunitStudy.limit.ConcurrencyLimitFilter;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.service.MemberService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 가 느려진 상태에서 {@code /test} 에 처리량보다 많은 요청을 보내도, 적응형 동시성 제한
+ * ({@link ConcurrencyLimitFilter}) 덕분에 받아들인 요청의 p99 가 일정 수준에 머무는지 확인합니다.
+ *
+ * <p>
+ * 커넥션을 얻을 때마다 {@link #DB_DELAY_MS} 만큼 지연시켜 느린 H2 를 흉내 내고, 조회 스레드 풀 큐를 크게 잡아
+ * 제한이 없으면 요청이 큐에 쌓여 응답 시간이 계속 늘어나는 상황을 만듭니다.
+ * 같은 시간에 {@code /quiz} 에도 부하를 주어, 상한이 엔드포인트마다 따로 움직이는지도 확인합니다.
+ * </p>
+ * <ul>
+ *     <li>load.overload-clients (기본 500): /test 동시 클라이언트 수</li>
+ *     <li>load.max-overload-p99-ms (기본 500): 과부하 중 성공한 /test 응답의 p99 상한</li>
+ * </ul>
+ * 제한이 없을 때와 비교하려면 {@code -Pload.limit-enabled=false} 로 실행합니다. (p99 검사만 건너뜁니다)
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "member.limit.enabled=${load.limit-enabled:true}",
+        "member.query.executor.queue-capacity=100000",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=info",
+        "logging.level.org.hibernate.type.descriptor.sql=info"
+})
+class ConcurrencyLimitLoadTest {
+
+    static final int MEMBERS = 100;
+    static final long DB_DELAY_MS = 20;
+
+    static final int CLIENTS = Integer.getInteger("load.overload-clients", 500);
+    static final int REQUESTS_PER_CLIENT = 20;
+    static final long MAX_P99_MICROS = Long.getLong("load.max-overload-p99-ms", 500) * 1_000;
+    static final boolean LIMIT_ENABLED = Boolean.parseBoolean(System.getProperty("load.limit-enabled", "true"));
+
+    @TestConfiguration
+    static class SlowDatabaseConfig {
+
+        /**
+         * 커넥션을 빌릴 때마다 잠깐 멈추는 DataSource 로 감쌉니다.
+         */
+        @Bean
+        static BeanPostProcessor slowDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            try {
+                                Thread.sleep(DB_DELAY_MS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new SQLException(e);
+                            }
+                            return super.getConnection();
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @BeforeEach
+    void seed() {
+        if (memberRepository.count() == 0) {
+            memberService.importMembers(IntStream.range(0, MEMBERS).mapToObj(i -> "member" + i).toList());
+        }
+    }
+
+    @Test
+    void memberListUnderOverload() throws Exception {
+        LoadGenerator.run("GET /test (warm-up)", 10, 20, () -> get("/test"));
+        LoadGenerator.Result idle = LoadGenerator.run("GET /test (idle)", 4, 50, () -> get("/test"));
+
+        CompletableFuture<LoadGenerator.Result> quiz = CompletableFuture.supplyAsync(() -> {
+            try {
+                return LoadGenerator.run("GET /quiz (during overload)", 50, 200,
+                        () -> get("/quiz?code=" + ThreadLocalRandom.current().nextInt(1, 4)));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        LoadGenerator.Result overload = LoadGenerator.run("GET /test (overload)", CLIENTS, REQUESTS_PER_CLIENT,
+                () -> get("/test"));
+
+        log.info("{}", idle);
+        log.info("{} ok p99={}us ok throughput={} req/s", overload, overload.okP99Micros(),
+                String.format("%.0f", overload.okThroughput()));
+        log.info("{}", quiz.join());
+
+        // 과부하 중에도 요청을 계속 처리합니다.
+        assertThat(overload.okThroughput()).isGreaterThan(0);
+        // 상한은 /test 에만 걸리므로 /quiz 는 거절되지 않습니다.
+        assertThat(quiz.join().errorRate()).isLessThan(0.01);
+        if (LIMIT_ENABLED) {
+            assertThat(overload.errors()).as("requests shed with 503").isPositive();
+            assertThat(overload.okP99Micros()).as("p99 of accepted requests (us)").isLessThanOrEqualTo(MAX_P99_MICROS);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+    }
+}
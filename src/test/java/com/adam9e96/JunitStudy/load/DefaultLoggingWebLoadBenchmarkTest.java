@@ -0,0 +1,20 @@
+package com.adam9e96.JunitStudy.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * application.properties 의 기본 SQL 로깅(show-sql, DEBUG SQL, TRACE 바인딩 파라미터)을 켠 상태.
+ * {@link ProdProfileWebLoadBenchmarkTest} 와 처리량을 비교합니다.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=true",
+        "logging.level.org.hibernate.SQL=debug",
+        "logging.level.org.hibernate.type.descriptor.sql=trace"
+})
+class DefaultLoggingWebLoadBenchmarkTest extends WebLoadBenchmarkSupport {
+
+    @Override
+    String mode() {
+        return "default-logging";
+    }
+}
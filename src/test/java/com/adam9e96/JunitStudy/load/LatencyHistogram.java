@@ -0,0 +1,56 @@
+package com.adam9e96.JunitStudy.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 지연 시간을 모으는 히스토그램. 단위는 마이크로초이며 HdrHistogram 의 {@link ConcurrentHistogram} 으로 기록합니다.
+ *
+ * <p>
+ * 유효 숫자 3자리(상대 오차 0.1% 이하)로 기록하고, 범위는 기록한 최댓값에 맞춰 자동으로 늘어납니다.
+ * 여러 가상 스레드가 잠금 없이 동시에 기록할 수 있으며, 백분위는 부하가 끝난 뒤에 읽습니다.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+    public void recordNanos(long nanos) {
+        record(Math.max(0, nanos / 1_000));
+    }
+
+    public void record(long micros) {
+        histogram.recordValue(micros);
+    }
+
+    public long count() {
+        return histogram.getTotalCount();
+    }
+
+    public long maxMicros() {
+        return histogram.getMaxValue();
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return 해당 백분위 값 (같은 버킷에 드는 값 중 가장 큰 값)
+     */
+    public long percentileMicros(double percentile) {
+        return histogram.getValueAtPercentile(percentile);
+    }
+
+    /**
+     * HdrHistogram 의 백분위 분포 표 (단위: us)
+     */
+    public String percentileDistribution() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        histogram.outputPercentileDistribution(new PrintStream(out, true, StandardCharsets.UTF_8), 1, 1.0);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
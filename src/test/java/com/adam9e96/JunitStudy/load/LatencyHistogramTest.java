@@ -0,0 +1,40 @@
+package com.adam9e96.JunitStudy.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @DisplayName("percentileMicros: 1 ~ 100,000us 를 고르게 기록하면 백분위가 0.1% 오차 안에 있다.")
+    @Test
+    void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongStream.rangeClosed(1, 100_000).forEach(histogram::record);
+
+        assertThat(histogram.count()).isEqualTo(100_000);
+        assertThat((double) histogram.percentileMicros(50)).isCloseTo(50_000, within(50.0));
+        assertThat((double) histogram.percentileMicros(99)).isCloseTo(99_000, within(99.0));
+        assertThat((double) histogram.percentileMicros(99.9)).isCloseTo(99_900, within(100.0));
+        assertThat((double) histogram.maxMicros()).isCloseTo(100_000, within(100.0));
+    }
+
+    @DisplayName("여러 스레드가 동시에 기록해도 빠지는 값이 없다.")
+    @Test
+    void concurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = Thread.ofVirtual().start(() -> LongStream.rangeClosed(1, 10_000).forEach(histogram::recordNanos));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(histogram.count()).isEqualTo(80_000);
+    }
+}
@@ -0,0 +1,117 @@
+package com.adam9e96.JunitStudy.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트.
+ *
+ * <p>
+ * 클라이언트마다 가상 스레드 하나를 사용해 요청을 순서대로 보내고,
+ * 응답 시간을 {@link LatencyHistogram} 에 모아 처리량과 백분위 지연 시간을 계산합니다.
+ * 응답 코드가 5xx 이거나 요청 중 예외가 발생하면 오류로 셉니다.
+ * 오류 응답(예: 과부하로 바로 거절한 503)을 뺀 성공 응답의 지연 시간은 따로 모읍니다.
+ * </p>
+ */
+public final class LoadGenerator {
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private LoadGenerator() {
+    }
+
+    /**
+     * @param name              결과에 표시할 이름
+     * @param clients           동시 클라이언트 수
+     * @param requestsPerClient 클라이언트 하나가 보낼 요청 수
+     * @param request           매 요청마다 호출되는 요청 생성기
+     */
+    public static Result run(String name, int clients, int requestsPerClient, Supplier<HttpRequest> request)
+            throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LatencyHistogram okHistogram = new LatencyHistogram();
+        AtomicLong errors = new AtomicLong();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                futures.add(executor.submit(() -> {
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        long begin = System.nanoTime();
+                        boolean ok = false;
+                        try {
+                            HttpResponse<Void> response = CLIENT.send(request.get(), HttpResponse.BodyHandlers.discarding());
+                            ok = response.statusCode() < 500;
+                        } catch (Exception e) {
+                            // 오류로 셉니다.
+                        }
+                        long elapsed = System.nanoTime() - begin;
+                        histogram.recordNanos(elapsed);
+                        if (ok) {
+                            okHistogram.recordNanos(elapsed);
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(name, histogram.count(), errors.get(),
+                histogram.count() / (elapsed / 1_000_000_000.0),
+                histogram.percentileMicros(50), histogram.percentileMicros(99), histogram.percentileMicros(99.9),
+                histogram, okHistogram);
+    }
+
+    /**
+     * 부하 테스트 결과. 지연 시간 단위는 마이크로초입니다.
+     *
+     * @param histogram   모든 요청의 지연 시간
+     * @param okHistogram 성공(5xx 가 아닌) 응답의 지연 시간
+     */
+    public record Result(String name, long requests, long errors, double throughput,
+                         long p50Micros, long p99Micros, long p999Micros,
+                         LatencyHistogram histogram, LatencyHistogram okHistogram) {
+
+        public double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        /**
+         * 성공 응답만의 p99
+         */
+        public long okP99Micros() {
+            return okHistogram.percentileMicros(99);
+        }
+
+        /**
+         * 초당 성공 응답 수
+         */
+        public double okThroughput() {
+            return requests == 0 ? 0 : throughput * okHistogram.count() / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s requests=%d errors=%d (%.2f%%) throughput=%.0f req/s p50=%dus p99=%dus p99.9=%dus",
+                    name, requests, errors, errorRate() * 100, throughput, p50Micros, p99Micros, p999Micros);
+        }
+    }
+}
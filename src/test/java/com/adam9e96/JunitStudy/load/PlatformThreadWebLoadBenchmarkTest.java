@@ -0,0 +1,12 @@
+package com.adam9e96.JunitStudy.load;
+
+/**
+ * 기본 모드: 톰캣의 고정 크기 플랫폼 스레드 풀(최대 200개)에서 요청을 처리합니다.
+ */
+class PlatformThreadWebLoadBenchmarkTest extends WebLoadBenchmarkSupport {
+
+    @Override
+    String mode() {
+        return "platform-threads";
+    }
+}
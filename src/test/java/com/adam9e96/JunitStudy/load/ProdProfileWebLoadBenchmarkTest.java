@@ -0,0 +1,18 @@
+package com.adam9e96.JunitStudy.load;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * prod 프로필: SQL 로깅을 끄고 느린 쿼리만 샘플링해서 비동기 어펜더로 출력합니다.
+ * 로깅 비용만 비교하도록 prod 프로필의 동시성 제한은 끕니다. (제한 효과는 ConcurrencyLimitLoadTest)
+ */
+@ActiveProfiles("prod")
+@TestPropertySource(properties = "member.limit.enabled=false")
+class ProdProfileWebLoadBenchmarkTest extends WebLoadBenchmarkSupport {
+
+    @Override
+    String mode() {
+        return "prod";
+    }
+}
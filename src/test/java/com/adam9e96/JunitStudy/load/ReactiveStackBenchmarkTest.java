@@ -0,0 +1,164 @@
+package com.adam9e96.JunitStudy.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 서블릿 + JPA(루트 모듈)와 WebFlux + R2DBC(reactive 모듈)의 {@code GET /test} 를 같은 동시성으로 비교합니다.
+ *
+ * <p>
+ * 두 애플리케이션을 같은 힙 크기의 별도 JVM 으로 띄우고, 이 JVM 에서 실행한 H2 TCP 서버의 같은 DB 를 읽게 합니다.
+ * 스키마는 서블릿 애플리케이션의 Hibernate 가 만들고 리액티브 애플리케이션은 그대로 읽으므로,
+ * 두 모듈이 같은 member 스키마를 공유하는지도 함께 확인됩니다.
+ * </p>
+ * <p>
+ * {@code ./gradlew benchmark} 로 실행합니다. 클래스패스는 Gradle 이 시스템 속성으로 넘겨주며,
+ * IDE 처럼 속성이 없으면 건너뜁니다.
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+class ReactiveStackBenchmarkTest {
+
+    private static final int CLIENTS = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int MEMBERS = 1_000;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final HttpClient PROBE = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    // 실패하면 애플리케이션 로그를 볼 수 있도록 남겨 둡니다.
+    @TempDir(cleanup = CleanupMode.ON_SUCCESS)
+    Path logDir;
+
+    private final List<Process> processes = new ArrayList<>();
+    private Server h2;
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        for (Process process : processes) {
+            process.destroy();
+            process.waitFor();
+        }
+        if (h2 != null) {
+            h2.stop();
+        }
+    }
+
+    @Test
+    void memberListServletVersusReactive() throws Exception {
+        String servletClasspath = System.getProperty("benchmark.servlet.classpath");
+        String reactiveClasspath = System.getProperty("benchmark.reactive.classpath");
+        assumeTrue(servletClasspath != null && reactiveClasspath != null, "run with ./gradlew benchmark");
+
+        h2 = Server.createTcpServer("-tcpPort", String.valueOf(freePort()), "-ifNotExists").start();
+        String database = "//localhost:" + h2.getPort() + "/mem:reactive-benchmark;DB_CLOSE_DELAY=-1";
+
+        // 서블릿 애플리케이션이 Hibernate 로 스키마를 만든 뒤에 회원을 채웁니다.
+        int servletPort = freePort();
+        start("servlet", servletClasspath, "com.adam9e96.JunitStudy.JunitStudyApplication",
+                "--server.port=" + servletPort,
+                "--spring.datasource.url=jdbc:h2:tcp:" + database,
+                "--spring.datasource.username=sa",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.hibernate.SQL=warn",
+                "--logging.level.org.hibernate.type.descriptor.sql=warn",
+                // 리액티브 쪽과 같은 일을 비교하도록, 조회 스레드 풀 큐가 넘쳐 503 으로 거절하지 않게 합니다.
+                "--member.query.executor.queue-capacity=" + CLIENTS);
+        awaitReady(servletPort, "/actuator/health");
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:tcp:" + database, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO member (id, name, version) SELECT X, 'member' || X, 0 FROM SYSTEM_RANGE(1, " + MEMBERS + ")");
+        }
+
+        int reactivePort = freePort();
+        start("reactive", reactiveClasspath, "com.adam9e96.JunitStudy.reactive.ReactiveMemberApplication",
+                "--server.port=" + reactivePort,
+                "--spring.r2dbc.url=r2dbc:h2:tcp:" + database,
+                "--spring.sql.init.mode=never");
+        awaitReady(reactivePort, "/test?limit=1");
+
+        // 워밍업
+        LoadGenerator.run("warmup", 100, 20, () -> get(servletPort, "/test"));
+        LoadGenerator.run("warmup", 100, 20, () -> get(reactivePort, "/test"));
+
+        LoadGenerator.Result servlet = LoadGenerator.run("servlet+jpa GET /test", CLIENTS, REQUESTS_PER_CLIENT,
+                () -> get(servletPort, "/test"));
+        LoadGenerator.Result reactive = LoadGenerator.run("webflux+r2dbc GET /test", CLIENTS, REQUESTS_PER_CLIENT,
+                () -> get(reactivePort, "/test"));
+        log.info("{}", servlet);
+        log.info("{}", reactive);
+        log.info("reactive/servlet throughput={} p99={}",
+                String.format("%.2f", reactive.throughput() / servlet.throughput()),
+                String.format("%.2f", (double) reactive.p99Micros() / servlet.p99Micros()));
+
+        assertThat(servlet.errorRate()).isLessThan(0.01);
+        assertThat(reactive.errorRate()).isLessThan(0.01);
+    }
+
+    private static HttpRequest get(int port, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+    }
+
+    private void start(String name, String classpath, String mainClass, String... args) throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx1g", "-cp", classpath, mainClass));
+        command.addAll(List.of(args));
+        Path logFile = logDir.resolve(name + ".log");
+        processes.add(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start());
+        log.info("started {} application, log: {}", name, logFile);
+    }
+
+    private void awaitReady(int port, String path) throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            for (Process process : processes) {
+                assertThat(process.isAlive()).as("application exited, see %s", logDir).isTrue();
+            }
+            try {
+                HttpResponse<Void> response = PROBE.send(get(port, path), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않았습니다.
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("application on port " + port + " did not start, see " + logDir);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.adam9e96.JunitStudy.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * virtual-threads 프로필: 요청마다 가상 스레드에서 처리합니다.
+ */
+@ActiveProfiles("virtual-threads")
+class VirtualThreadWebLoadBenchmarkTest extends WebLoadBenchmarkSupport {
+
+    @Override
+    String mode() {
+        return "virtual-threads";
+    }
+}
@@ -0,0 +1,88 @@
+package com.adam9e96.JunitStudy.load;
+
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.service.MemberService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 톰캣을 띄워 {@code /test}, {@code /quiz} 에 1,000개 동시 클라이언트로 부하를 주는 벤치마크의 공통 부분.
+ *
+ * <p>
+ * 하위 클래스는 스레드 모드(프로필)만 다르게 지정합니다. 결과는 로그로 출력되므로
+ * {@code ./gradlew benchmark} 실행 후 두 모드의 처리량과 p99 를 비교합니다.
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=info",
+        "logging.level.org.hibernate.type.descriptor.sql=info"
+})
+abstract class WebLoadBenchmarkSupport {
+
+    static final int CLIENTS = 1_000;
+    static final int REQUESTS_PER_CLIENT = 20;
+    static final int MEMBERS = 100;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @BeforeEach
+    void seed() {
+        if (memberRepository.count() == 0) {
+            memberService.importMembers(IntStream.range(0, MEMBERS).mapToObj(i -> "member" + i).toList());
+        }
+    }
+
+    /**
+     * 결과 이름 앞에 붙일 모드 이름
+     */
+    abstract String mode();
+
+    @Test
+    void memberList() throws Exception {
+        report(LoadGenerator.run(mode() + " GET /test", CLIENTS, REQUESTS_PER_CLIENT,
+                () -> HttpRequest.newBuilder(uri("/test")).GET().build()));
+    }
+
+    @Test
+    void quiz() throws Exception {
+        report(LoadGenerator.run(mode() + " GET /quiz", CLIENTS, REQUESTS_PER_CLIENT,
+                () -> HttpRequest.newBuilder(uri("/quiz?code=1")).GET().build()));
+        report(LoadGenerator.run(mode() + " POST /quiz", CLIENTS, REQUESTS_PER_CLIENT,
+                () -> HttpRequest.newBuilder(uri("/quiz"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"value\":1}"))
+                        .build()));
+    }
+
+    URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    void report(LoadGenerator.Result result) {
+        log.info("{}", result);
+        assertThat(result.errorRate()).isLessThan(0.01);
+    }
+}
@@ -0,0 +1,81 @@
+package com.adam9e96.JunitStudy.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * name 인덱스 벤치마크.
+ *
+ * <p>
+ * 테이블을 1K → 10K → 100K → 1M 행으로 늘려가며 findFirstByNameOrderByIdAsc() 평균 지연 시간을 측정합니다.
+ * 인덱스를 사용하면 행 수가 1000배가 되어도 지연 시간이 거의 변하지 않아야 합니다.
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=info",
+        "logging.level.org.hibernate.type.descriptor.sql=info"
+})
+class MemberNameLookupBenchmarkTest {
+
+    private static final int[] TABLE_SIZES = {1_000, 10_000, 100_000, 1_000_000};
+    private static final int WARMUP = 2_000;
+    private static final int LOOKUPS = 5_000;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    void lookupLatencyStaysFlat() {
+        Map<Integer, Double> averageMicros = new LinkedHashMap<>();
+        int rows = 0;
+        for (int size : TABLE_SIZES) {
+            // 시퀀스를 거치지 않고 H2 에서 바로 행을 채웁니다.
+            entityManager.createNativeQuery(
+                            "INSERT INTO member (id, name) SELECT X, 'member' || X FROM SYSTEM_RANGE(?1, ?2)")
+                    .setParameter(1, rows + 1)
+                    .setParameter(2, size)
+                    .executeUpdate();
+            rows = size;
+
+            lookup(rows, WARMUP);
+            long start = System.nanoTime();
+            lookup(rows, LOOKUPS);
+            double micros = (System.nanoTime() - start) / 1_000.0 / LOOKUPS;
+            averageMicros.put(size, micros);
+            log.info("rows={} avg findByName={}us", size, String.format("%.1f", micros));
+        }
+
+        // 1K 대비 1M 에서 10배 이상 느려지면 전체 스캔으로 보고 실패시킵니다. (전체 스캔이면 수백 배 차이가 납니다.)
+        double first = averageMicros.get(TABLE_SIZES[0]);
+        double last = averageMicros.get(TABLE_SIZES[TABLE_SIZES.length - 1]);
+        assertThat(last).isLessThan(first * 10);
+    }
+
+    private void lookup(int rows, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            String name = "member" + random.nextInt(1, rows + 1);
+            assertThat(memberRepository.findFirstByNameOrderByIdAsc(name)).isPresent();
+            entityManager.clear();
+        }
+    }
+}
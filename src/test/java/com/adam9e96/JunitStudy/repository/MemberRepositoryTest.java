@@ -1,26 +1,38 @@
 package com.adam9e96.JunitStudy.repository;
 
+import com.adam9e96.JunitStudy.dto.MemberSummary;
 import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.support.JpaSliceTest;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
-import org.junit.jupiter.api.AfterEach;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * 스프링 데이터 JPA 에서 제공하는 메서드 사용하기
+ *
+ * <p>
+ * 각 테스트는 트랜잭션 안에서 실행되고 끝나면 롤백됩니다. {@code @Sql("/data.sql")} 로 넣은 데이터도
+ * 같은 트랜잭션에서 들어가므로 롤백만으로 지워지며, 따로 deleteAll() 로 정리하지 않습니다.
+ * </p>
  */
 @Slf4j
-@DataJpaTest
+@JpaSliceTest
 class MemberRepositoryTest {
     @Autowired
     MemberRepository memberRepository;
 
+    @Autowired
+    EntityManager entityManager;
+
     /**
      * @Sql 어노테이션 :
      * 테스트를 실행하기 전에 SQL 스크립트를 실행 시킬 수 있습니다.
@@ -149,13 +161,6 @@ class MemberRepositoryTest {
         assertThat(memberRepository.findAll().size()).isZero();
     }
 
-    @AfterEach
-    public void cleanUp() {
-        memberRepository.deleteAll();
-        log.info("Clean up");
-    }
-
-
     /**
      * 삭제 테스트 개선
      * orElseThrow() 사용: get() 대신 orElseThrow()를 사용하면, 만약 해당 ID를 가진 Member가 없을 경우 즉시 테스트가 실패하게 됩니다.
@@ -241,4 +246,80 @@ class MemberRepositoryTest {
     }
 
 
-}
\ No newline at end of file
+    /**
+     * 이름이 중복되어도 findAllByName() 은 모두 돌려주고, findFirstByNameOrderByIdAsc() 는 예외 없이 첫 번째를 돌려줍니다.
+     */
+    @Test
+    void findAllByName() {
+        // given
+        List<Member> saved = memberRepository.saveAll(List.of(
+                Member.builder().name("A").build(),
+                Member.builder().name("A").build(),
+                Member.builder().name("B").build()));
+
+        // when
+        List<Member> members;
+        try (Stream<Member> stream = memberRepository.findAllByName("A")) {
+            members = stream.toList();
+        }
+
+        // then
+        assertThat(members).hasSize(2);
+        assertThat(memberRepository.findFirstByNameOrderByIdAsc("A").orElseThrow().getId())
+                .isEqualTo(saved.get(0).getId());
+    }
+
+    /**
+     * 앞부분이 같은 이름을 이름 순으로 limit 만큼 조회합니다.
+     */
+    @Test
+    void findByNameStartingWith() {
+        // given
+        memberRepository.saveAll(List.of(
+                Member.builder().name("kim2").build(),
+                Member.builder().name("lee").build(),
+                Member.builder().name("kim1").build(),
+                Member.builder().name("kim3").build()));
+
+        // when
+        List<Member> members = memberRepository.findByNameStartingWithOrderByNameAsc("kim", Limit.of(2));
+
+        // then
+        assertThat(members).extracting(Member::getName).containsExactly("kim1", "kim2");
+    }
+
+    /**
+     * H2 의 실행 계획으로 name 조회가 idx_member_name 인덱스를 사용하는지 확인합니다.
+     */
+    @Test
+    void findByNameUsesIndex() {
+        // when
+        String plan = (String) entityManager
+                .createNativeQuery("EXPLAIN SELECT * FROM member WHERE name = 'C'")
+                .getSingleResult();
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_member_name");
+    }
+
+    /**
+     * 프로젝션 조회는 id, name 만 읽어오며 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+     */
+    @Sql("/data.sql")
+    @Test
+    void findAllSummaries() {
+        // given
+        entityManager.clear();
+
+        // when
+        List<MemberSummary> summaries = memberRepository.findAllSummaries();
+
+        // then
+        assertThat(summaries).containsExactly(
+                new MemberSummary(1L, "A"),
+                new MemberSummary(2L, "B"),
+                new MemberSummary(3L, "C"));
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+}
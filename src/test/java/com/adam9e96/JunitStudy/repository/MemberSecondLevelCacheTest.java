@@ -0,0 +1,136 @@
+package com.adam9e96.JunitStudy.repository;
+
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.service.MemberService;
+import com.adam9e96.JunitStudy.support.JpaSliceTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 2차 캐시와 쿼리 캐시 동작을 SQL 실행 횟수(Hibernate 통계)로 검증합니다.
+ *
+ * <p>
+ * 2차 캐시는 트랜잭션(영속성 컨텍스트)을 넘어서 동작하므로 테스트 메서드 전체를 감싸는 트랜잭션을 끄고
+ * {@link TransactionTemplate} 으로 트랜잭션을 나눠서 실행합니다.
+ * </p>
+ */
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberSecondLevelCacheTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    TransactionTemplate tx;
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("findById: 다른 트랜잭션에서 같은 회원을 다시 조회하면 SQL 없이 2차 캐시에서 읽는다.")
+    @Test
+    void findByIdHitsSecondLevelCache() {
+        // given
+        Long id = memberRepository.save(Member.builder().name("A").build()).getId();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // when
+        tx.executeWithoutResult(status -> memberRepository.findById(id).orElseThrow());
+        tx.executeWithoutResult(status -> memberRepository.findById(id).orElseThrow());
+        tx.executeWithoutResult(status -> memberRepository.findById(id).orElseThrow());
+
+        // then
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("changeName + save 후에는 2차 캐시와 쿼리 캐시 모두 새 이름을 돌려준다.")
+    @Test
+    void renameInvalidatesCaches() {
+        // given
+        Long id = memberRepository.save(Member.builder().name("A").build()).getId();
+        tx.executeWithoutResult(status -> memberRepository.findByName("A").orElseThrow());
+        tx.executeWithoutResult(status -> memberRepository.findByName("A").orElseThrow());
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+
+        // when
+        tx.executeWithoutResult(status -> {
+            Member member = memberRepository.findById(id).orElseThrow();
+            member.changeName("B");
+            memberRepository.save(member);
+        });
+        statistics.clear();
+
+        // then
+        tx.executeWithoutResult(status ->
+                assertThat(memberRepository.findById(id).orElseThrow().getName()).isEqualTo("B"));
+        tx.executeWithoutResult(status -> {
+            assertThat(memberRepository.findByName("A")).isEmpty();
+            assertThat(memberRepository.findByName("B")).isPresent();
+        });
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+    }
+
+    @DisplayName("renameAll 이 커밋되면 2차 캐시와 쿼리 캐시에 이전 이름과 version 이 남지 않는다.")
+    @Test
+    void renameAllInvalidatesCaches() {
+        // given: 2차 캐시와 쿼리 캐시에 "A" 를 올려 둡니다.
+        Long id = memberRepository.save(Member.builder().name("A").build()).getId();
+        tx.executeWithoutResult(status -> memberRepository.findById(id).orElseThrow());
+        tx.executeWithoutResult(status -> memberRepository.findByName("A").orElseThrow());
+        tx.executeWithoutResult(status -> memberRepository.findByName("A").orElseThrow());
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+
+        // when
+        memberService.renameAll(Map.of(id, "B"));
+
+        // then
+        tx.executeWithoutResult(status -> {
+            Member member = memberRepository.findById(id).orElseThrow();
+            assertThat(member.getName()).isEqualTo("B");
+            assertThat(member.getVersion()).isEqualTo(1L);
+        });
+        tx.executeWithoutResult(status -> {
+            assertThat(memberRepository.findByName("A")).isEmpty();
+            assertThat(memberRepository.findByName("B")).map(Member::getId).contains(id);
+        });
+        // 캐시에 이전 version 이 남아 있으면 낙관적 잠금 충돌이 나서 재시도합니다.
+        statistics.clear();
+        assertThat(memberService.renameMember(id, "C").getVersion()).isEqualTo(2L);
+        assertThat(statistics.getOptimisticFailureCount()).isZero();
+    }
+}
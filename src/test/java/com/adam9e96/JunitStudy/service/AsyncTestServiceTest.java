@@ -0,0 +1,120 @@
+package com.adam9e96.JunitStudy.service;
+
+import com.adam9e96.JunitStudy.dto.MemberSummary;
+import com.adam9e96.JunitStudy.exception.MemberQueryRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스프링 컨텍스트 없이 {@link AsyncTestService} 의 스레드 풀 동작만 검증합니다.
+ */
+class AsyncTestServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final AsyncTestService asyncTestService = new AsyncTestService(1, 1, false);
+    private final AsyncTestService virtualService = new AsyncTestService(1, 1, true);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        asyncTestService.shutdown();
+        virtualService.shutdown();
+    }
+
+    @DisplayName("getMemberSummaries: 조회를 별도 스레드에서 실행하고 결과를 future 로 돌려준다.")
+    @Test
+    void runsOnExecutor() throws Exception {
+        // given
+        asyncTestService.testService = new TestService() {
+            @Override
+            public List<MemberSummary> getMemberSummaries() {
+                return List.of(new MemberSummary(1L, Thread.currentThread().getName()));
+            }
+        };
+
+        // when
+        List<MemberSummary> result = asyncTestService.getMemberSummaries().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.get(0).name()).startsWith("member-query-");
+    }
+
+    @DisplayName("getMemberSummaries: 스레드와 큐가 모두 차면 기다리지 않고 거절한다.")
+    @Test
+    void rejectsWhenSaturated() {
+        // given: 스레드 1개, 큐 1칸을 모두 채웁니다.
+        asyncTestService.testService = blockingTestService();
+        CompletableFuture<List<MemberSummary>> running = asyncTestService.getMemberSummaries();
+        CompletableFuture<List<MemberSummary>> queued = asyncTestService.getMemberSummaries();
+
+        // when & then
+        assertThatThrownBy(asyncTestService::getMemberSummaries)
+                .isInstanceOf(MemberQueryRejectedException.class);
+        assertThat(running).isNotDone();
+        assertThat(queued).isNotDone();
+    }
+
+    @DisplayName("가상 스레드: 조회마다 가상 스레드에서 실행한다.")
+    @Test
+    void runsOnVirtualThread() throws Exception {
+        // given
+        virtualService.testService = new TestService() {
+            @Override
+            public List<MemberSummary> getMemberSummaries() {
+                Thread thread = Thread.currentThread();
+                return List.of(new MemberSummary(1L, thread.getName() + ":" + thread.isVirtual()));
+            }
+        };
+
+        // when
+        List<MemberSummary> result = virtualService.getMemberSummaries().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.get(0).name()).startsWith("member-query-").endsWith(":true");
+    }
+
+    @DisplayName("가상 스레드: pool-size + queue-capacity 개가 처리 중이면 거절하고, 끝나면 다시 받는다.")
+    @Test
+    void virtualRejectsAboveLimit() throws Exception {
+        // given: 한도 2개를 모두 채웁니다.
+        virtualService.testService = blockingTestService();
+        CompletableFuture<List<MemberSummary>> first = virtualService.getMemberSummaries();
+        CompletableFuture<List<MemberSummary>> second = virtualService.getMemberSummaries();
+
+        // when & then
+        assertThatThrownBy(virtualService::getMemberSummaries)
+                .isInstanceOf(MemberQueryRejectedException.class);
+        assertThat(virtualService.inflight()).isEqualTo(2);
+
+        release.countDown();
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        assertThat(virtualService.getMemberSummaries().get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    /**
+     * release 가 열릴 때까지 끝나지 않는 조회
+     */
+    private TestService blockingTestService() {
+        return new TestService() {
+            @Override
+            public List<MemberSummary> getMemberSummaries() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of();
+            }
+        };
+    }
+}
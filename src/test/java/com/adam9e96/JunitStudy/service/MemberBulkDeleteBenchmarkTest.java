@@ -0,0 +1,82 @@
+package com.adam9e96.JunitStudy.service;
+
+import com.adam9e96.JunitStudy.cache.MemberCache;
+import com.adam9e96.JunitStudy.cache.MemberChangeTracker;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 100K 행을 지우는 데 걸리는 시간을 기존 deleteAll() 과 일괄 삭제로 비교합니다.
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@Import({MemberService.class, MemberCache.class, MemberChangeTracker.class})
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=info",
+        "logging.level.org.hibernate.type.descriptor.sql=info"
+})
+class MemberBulkDeleteBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    void cleanup100k() {
+        seed();
+        long deleteAll = measure(() -> {
+            memberRepository.deleteAll();
+            memberRepository.flush();
+        });
+        assertThat(memberRepository.count()).isZero();
+
+        seed();
+        List<Long> ids = LongStream.rangeClosed(1, ROWS).boxed().toList();
+        long deleteByIds = measure(() -> memberService.deleteByIds(ids));
+        assertThat(memberRepository.count()).isZero();
+
+        seed();
+        long deleteByPattern = measure(() -> memberService.deleteByNamePattern("member%"));
+        assertThat(memberRepository.count()).isZero();
+
+        log.info("rows={} deleteAll()={}ms deleteByIds()={}ms deleteByNamePattern()={}ms",
+                ROWS, deleteAll, deleteByIds, deleteByPattern);
+        assertThat(deleteByPattern).isLessThan(deleteAll);
+    }
+
+    private void seed() {
+        entityManager.createNativeQuery(
+                        "INSERT INTO member (id, name) SELECT X, 'member' || X FROM SYSTEM_RANGE(1, ?1)")
+                .setParameter(1, ROWS)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    private static long measure(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,147 @@
+package com.adam9e96.JunitStudy.service;
+
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.support.JpaSliceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드가 동시에 renameMember 를 호출해도 변경이 사라지지 않는지 확인하고,
+ * 처리량과 재시도 비율을 로그로 남깁니다.
+ *
+ * <p>
+ * 성공한 변경은 커밋마다 version 을 정확히 1 올리므로, 최종 version 이 성공 횟수와 같으면
+ * 어떤 변경도 다른 변경을 덮어쓰지 않았다는 뜻입니다.
+ * </p>
+ */
+@Slf4j
+@JpaSliceTest // member.rename.max-attempts=50
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberRenameStressTest {
+
+    private static final int THREADS = 32;
+    private static final int RENAMES_PER_THREAD = 20;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        memberService.bindTo(registry);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("같은 회원: 충돌은 재시도로 해결되고 성공한 변경 수만큼 version 이 오른다.")
+    @Test
+    void renameSameMember() throws Exception {
+        // given
+        Long id = memberRepository.save(Member.builder().name("initial").build()).getId();
+        Set<String> committedNames = ConcurrentHashMap.newKeySet();
+
+        // when
+        Result result = run("same", thread -> id, committedNames);
+
+        // then
+        Member member = memberRepository.findById(id).orElseThrow();
+        assertThat(result.succeeded() + result.failed()).isEqualTo(THREADS * RENAMES_PER_THREAD);
+        assertThat(member.getVersion()).isEqualTo(result.succeeded());
+        assertThat(committedNames).contains(member.getName());
+        assertThat(result.retries()).isPositive();
+    }
+
+    @DisplayName("서로 다른 회원: 충돌이 없으므로 재시도 없이 모두 성공한다.")
+    @Test
+    void renameDifferentMembers() throws Exception {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            ids.add(memberRepository.save(Member.builder().name("initial" + i).build()).getId());
+        }
+
+        // when
+        Result result = run("different", ids::get, ConcurrentHashMap.newKeySet());
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(THREADS * RENAMES_PER_THREAD);
+        assertThat(result.retries()).isZero();
+        for (int i = 0; i < THREADS; i++) {
+            Member member = memberRepository.findById(ids.get(i)).orElseThrow();
+            assertThat(member.getVersion()).isEqualTo((long) RENAMES_PER_THREAD);
+            assertThat(member.getName()).isEqualTo("t" + i + "-" + (RENAMES_PER_THREAD - 1));
+        }
+    }
+
+    private Result run(String scenario, IntFunction<Long> idOfThread, Set<String> committedNames) throws Exception {
+        double retriesBefore = registry.get("member.rename.retries").functionCounter().count();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        long begin;
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < RENAMES_PER_THREAD; i++) {
+                        String name = "t" + thread + "-" + i;
+                        try {
+                            memberService.renameMember(idOfThread.apply(thread), name);
+                            committedNames.add(name);
+                            succeeded.incrementAndGet();
+                        } catch (OptimisticLockingFailureException e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            begin = System.nanoTime();
+            start.countDown();
+        }
+        // close() 가 모든 작업이 끝날 때까지 기다립니다.
+        long elapsedNanos = System.nanoTime() - begin;
+
+        long retries = (long) (registry.get("member.rename.retries").functionCounter().count() - retriesBefore);
+        int attempts = succeeded.get() + failed.get();
+        log.info("scenario={} threads={} renames={} succeeded={} failed={} retries={} retryRate={} renames/s={}",
+                scenario, THREADS, attempts, succeeded.get(), failed.get(), retries,
+                String.format("%.2f", (double) retries / attempts),
+                attempts * 1_000_000_000L / elapsedNanos);
+        return new Result(succeeded.get(), failed.get(), retries);
+    }
+
+    private record Result(long succeeded, long failed, long retries) {
+    }
+}
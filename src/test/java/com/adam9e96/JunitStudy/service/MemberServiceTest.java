@@ -0,0 +1,120 @@
+package com.adam9e96.JunitStudy.service;
+
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.support.JpaSliceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JpaSliceTest
+class MemberServiceTest {
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    /**
+     * 배치 크기(50)의 배수가 아닌 개수를 넣어도 마지막 묶음까지 모두 저장되는지 확인합니다.
+     */
+    @DisplayName("importMembers: 이름 목록으로 회원을 대량 등록한다.")
+    @Test
+    void importMembers() {
+        // given
+        List<String> names = IntStream.range(0, 123)
+                .mapToObj(i -> "member" + i)
+                .toList();
+
+        // when
+        long imported = memberService.importMembers(names);
+
+        // then
+        assertThat(imported).isEqualTo(123);
+        assertThat(memberRepository.count()).isEqualTo(123);
+        assertThat(memberRepository.findByName("member122")).isPresent();
+    }
+
+    @DisplayName("deleteByIds: id 목록에 해당하는 회원만 삭제한다.")
+    @Test
+    void deleteByIds() {
+        // given
+        List<Member> saved = memberRepository.saveAll(List.of(
+                Member.builder().name("A").build(),
+                Member.builder().name("B").build(),
+                Member.builder().name("C").build()));
+
+        // when
+        int deleted = memberService.deleteByIds(List.of(saved.get(0).getId(), saved.get(2).getId()));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(memberRepository.findAll()).extracting(Member::getName).containsExactly("B");
+    }
+
+    @DisplayName("deleteByNamePattern: 이름이 패턴과 일치하는 회원을 삭제한다.")
+    @Test
+    void deleteByNamePattern() {
+        // given
+        memberRepository.saveAll(List.of(
+                Member.builder().name("temp1").build(),
+                Member.builder().name("temp2").build(),
+                Member.builder().name("keep").build()));
+
+        // when
+        int deleted = memberService.deleteByNamePattern("temp%");
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(memberRepository.findAll()).extracting(Member::getName).containsExactly("keep");
+    }
+
+    /**
+     * 이미 영속성 컨텍스트에 올라와 있던 회원도 일괄 변경 후에는 새 이름으로 조회되어야 합니다.
+     */
+    @DisplayName("renameAll: id 별로 이름을 한꺼번에 바꾼다.")
+    @Test
+    void renameAll() {
+        // given
+        List<Member> saved = memberRepository.saveAll(List.of(
+                Member.builder().name("A").build(),
+                Member.builder().name("B").build(),
+                Member.builder().name("C").build()));
+        Long a = saved.get(0).getId();
+        Long b = saved.get(1).getId();
+        Long c = saved.get(2).getId();
+
+        // when
+        int updated = memberService.renameAll(Map.of(a, "A2", b, "B2"));
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(memberRepository.findById(a).orElseThrow().getName()).isEqualTo("A2");
+        assertThat(memberRepository.findById(b).orElseThrow().getName()).isEqualTo("B2");
+        assertThat(memberRepository.findById(c).orElseThrow().getName()).isEqualTo("C");
+        // 일괄 변경도 낙관적 잠금 버전을 올린다.
+        assertThat(memberRepository.findById(a).orElseThrow().getVersion()).isEqualTo(1L);
+        assertThat(memberRepository.findById(c).orElseThrow().getVersion()).isZero();
+    }
+
+    @DisplayName("renameMember: 회원 한 명의 이름을 바꾸고 version 을 올린다.")
+    @Test
+    void renameMember() {
+        // given
+        Member saved = memberRepository.saveAndFlush(Member.builder().name("A").build());
+
+        // when
+        Member renamed = memberService.renameMember(saved.getId(), "A2");
+
+        // then
+        assertThat(renamed.getName()).isEqualTo("A2");
+        assertThat(renamed.getVersion()).isEqualTo(1L);
+    }
+}
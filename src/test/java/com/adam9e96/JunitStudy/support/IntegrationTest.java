@@ -0,0 +1,34 @@
+package com.adam9e96.JunitStudy.support;
+
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 전체 애플리케이션 컨텍스트(MockMvc, 관측 포함)를 띄우는 테스트.
+ *
+ * <p>
+ * 이 어노테이션을 쓰는 테스트 클래스는 설정이 모두 같으므로 스프링 테스트 컨텍스트 캐시에서 컨텍스트 하나를 함께 씁니다.
+ * 클래스마다 {@code @TestPropertySource}, {@code @MockitoBean} 등을 추가하면 캐시 키가 달라져서
+ * 컨텍스트를 새로 띄우므로, 필요하면 여기에 추가하세요.
+ * </p>
+ * <p>
+ * 같은 컨텍스트의 테스트는 H2 데이터베이스와 메트릭을 공유하므로 {@link SharedResources#INTEGRATION_CONTEXT}
+ * 잠금으로 서로 동시에 실행되지 않게 하고, 다른 컨텍스트나 스프링 없는 테스트와는 병렬로 실행합니다.
+ * </p>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+// ObservabilityTest(hibernate.* 메트릭), TestControllerTest(쿼리 수)가 Hibernate 통계를 사용합니다. 운영 기본값은 꺼져 있습니다.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ResourceLock(SharedResources.INTEGRATION_CONTEXT)
+public @interface IntegrationTest {
+}
@@ -0,0 +1,54 @@
+package com.adam9e96.JunitStudy.support;
+
+import com.adam9e96.JunitStudy.cache.MemberCache;
+import com.adam9e96.JunitStudy.cache.MemberChangeTracker;
+import com.adam9e96.JunitStudy.importer.MemberImportPipeline;
+import com.adam9e96.JunitStudy.index.MemberSnapshotIndex;
+import com.adam9e96.JunitStudy.service.MemberService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JPA 슬라이스 테스트. 리포지토리, 캐시, 서비스 테스트가 모두 같은 컨텍스트를 쓰도록
+ * 필요한 빈과 속성을 한곳에 모았습니다.
+ *
+ * <p>
+ * 기본은 {@code @DataJpaTest} 처럼 테스트마다 트랜잭션을 열고 끝나면 롤백하므로 데이터를 지우는 정리 작업이 필요 없습니다.
+ * 다른 스레드에서 커밋된 데이터를 봐야 하는 테스트만 {@code @Transactional(propagation = NOT_SUPPORTED)} 로
+ * 트랜잭션을 끄고 직접 정리합니다.
+ * </p>
+ * <p>
+ * 속성(properties)은 특정 테스트를 위한 값이지만 다른 테스트 결과에는 영향이 없고,
+ * 클래스마다 따로 두면 컨텍스트를 새로 띄우게 되므로 여기에 둡니다.
+ * </p>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest(properties = {
+        // MemberImportPipelineTest: 작은 파일로도 여러 chunk 와 여러 파싱 스레드를 거치도록 합니다.
+        "member.import.chunk-size=10",
+        "member.import.parser-threads=4",
+        // MemberRenameStressTest: 같은 회원에 32개 스레드가 몰려도 대부분 성공하도록 재시도를 늘립니다.
+        "member.rename.max-attempts=50",
+        "member.rename.max-backoff-ms=20",
+        // MemberSecondLevelCacheTest: 2차 캐시 적중 수와 실행한 쿼리 수를 Hibernate 통계로 확인합니다.
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // MemberSnapshotIndexTest: 메모리 색인을 등록합니다. 색인은 커밋된 변경만 담으므로 롤백하는 테스트의 조회는
+        // 지금처럼 캐시와 리포지토리를 거칩니다.
+        "member.index.enabled=true"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({MemberService.class, MemberCache.class, MemberChangeTracker.class, MemberImportPipeline.class,
+        MemberSnapshotIndex.class, SimpleMeterRegistry.class})
+@ResourceLock(SharedResources.JPA_CONTEXT)
+public @interface JpaSliceTest {
+}
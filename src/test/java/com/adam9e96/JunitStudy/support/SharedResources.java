@@ -0,0 +1,15 @@
+package com.adam9e96.JunitStudy.support;
+
+/**
+ * 병렬 실행 시 {@code @ResourceLock} 으로 보호하는 공유 자원 이름.
+ * 같은 스프링 컨텍스트를 쓰는 테스트 클래스는 같은 인메모리 DB 를 공유하므로 서로 동시에 실행하지 않습니다.
+ * 컨텍스트마다 DB 이름이 달라서(spring.datasource.generate-unique-name) 다른 컨텍스트끼리는 격리됩니다.
+ */
+public final class SharedResources {
+
+    public static final String INTEGRATION_CONTEXT = "integration-context";
+    public static final String JPA_CONTEXT = "jpa-context";
+
+    private SharedResources() {
+    }
+}
@@ -0,0 +1,138 @@
+package com.adam9e96.JunitStudy.writebehind;
+
+import com.adam9e96.JunitStudy.entity.Member;
+import com.adam9e96.JunitStudy.exception.MemberWriteRejectedException;
+import com.adam9e96.JunitStudy.repository.MemberRepository;
+import com.adam9e96.JunitStudy.support.JpaSliceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * write-behind 버퍼가 요청을 묶어 저장하고, 커밋된 뒤에만 응답하는지 검증합니다.
+ *
+ * <p>
+ * 테스트마다 용량과 대기 시간을 바꾸고 종료까지 확인해야 하므로 빈 대신 직접 만듭니다.
+ * 저장은 flush 스레드에서 커밋되므로 테스트 트랜잭션을 끄고 직접 정리합니다.
+ * </p>
+ */
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberWriteBehindBufferTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MemberWriteBehindBuffer buffer;
+
+    @AfterEach
+    void cleanUp() throws InterruptedException {
+        if (buffer != null) {
+            buffer.shutdown();
+        }
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("여러 스레드의 등록 요청을 묶어서 저장하고, 완료된 회원은 이미 커밋되어 있다.")
+    @Test
+    void batchesConcurrentCreates() throws Exception {
+        buffer = start(10_000, 100, Duration.ofMillis(5));
+        int threads = 8;
+        int perThread = 250;
+
+        List<CompletableFuture<Member>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<CompletableFuture<List<CompletableFuture<Member>>>> submitted = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                submitted.add(CompletableFuture.supplyAsync(() -> {
+                    List<CompletableFuture<Member>> created = new ArrayList<>();
+                    for (int i = 0; i < perThread; i++) {
+                        created.add(buffer.create("member-" + thread + "-" + i)
+                                // 완료 시점에 다른 트랜잭션에서 보이면 커밋된 것입니다.
+                                .thenApply(member -> {
+                                    assertThat(memberRepository.existsById(member.getId())).isTrue();
+                                    return member;
+                                }));
+                    }
+                    return created;
+                }, executor));
+            }
+            for (CompletableFuture<List<CompletableFuture<Member>>> created : submitted) {
+                futures.addAll(created.get(10, TimeUnit.SECONDS));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().getId()).isNotNull());
+        assertThat(memberRepository.count()).isEqualTo(threads * perThread);
+        assertThat(meterRegistry.get("member.write-behind.members").tag("result", "committed").counter().count())
+                .isEqualTo(threads * perThread);
+        // 요청 2000건이 2000번보다 훨씬 적은 트랜잭션으로 저장됩니다.
+        assertThat(meterRegistry.get("member.write-behind.batch.size").summary().count())
+                .isLessThan(threads * perThread / 10);
+        assertThat(buffer.pending()).isZero();
+    }
+
+    @DisplayName("큐가 가득 차면 기다리지 않고 거절하고, 종료할 때 남은 요청을 모두 저장한다.")
+    @Test
+    void rejectsWhenFullAndDrainsOnShutdown() throws InterruptedException {
+        // 시간 창이 길어서 종료하기 전에는 저장하지 않습니다.
+        buffer = start(5, 100, Duration.ofMinutes(1));
+
+        List<CompletableFuture<Member>> accepted = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            accepted.add(buffer.create("queued-" + i));
+        }
+        CompletableFuture<Member> rejected = buffer.create("rejected");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected.exceptionNow()).isInstanceOf(MemberWriteRejectedException.class);
+        assertThat(buffer.pending()).isEqualTo(5);
+        assertThat(accepted).noneMatch(CompletableFuture::isDone);
+
+        buffer.shutdown();
+
+        assertThat(accepted).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+        assertThat(memberRepository.count()).isEqualTo(5);
+        assertThat(buffer.create("after-shutdown").exceptionNow()).isInstanceOf(MemberWriteRejectedException.class);
+    }
+
+    @DisplayName("잘못된 이름은 큐에 넣지 않고 바로 실패한다.")
+    @Test
+    void rejectsInvalidName() {
+        buffer = start(10, 10, Duration.ofMillis(5));
+
+        assertThat(buffer.create(" ").exceptionNow()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(buffer.create("x".repeat(256)).exceptionNow()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(buffer.pending()).isZero();
+    }
+
+    private MemberWriteBehindBuffer start(int capacity, int batchSize, Duration maxDelay) {
+        MemberWriteBehindBuffer created = new MemberWriteBehindBuffer(meterRegistry, capacity, batchSize, maxDelay,
+                Duration.ofSeconds(10));
+        created.memberRepository = memberRepository;
+        created.transactionTemplate = transactionTemplate;
+        created.start();
+        return created;
+    }
+}